@@ -0,0 +1,117 @@
+/*******************************************************************************
+ * Copyright (c) 2026 IBM Corporation and others.
+ * All rights reserved. This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License v1.0
+ * which accompanies this distribution, and is available at
+ * http://www.eclipse.org/legal/epl-v10.html
+ *
+ * Contributors:
+ *     IBM Corporation - Initial implementation
+ *******************************************************************************/
+
+package io.openliberty.sample.accesslog;
+
+import java.io.IOException;
+import java.nio.file.Paths;
+import java.util.logging.Level;
+import java.util.logging.Logger;
+
+import jakarta.annotation.PostConstruct;
+import jakarta.annotation.PreDestroy;
+import jakarta.enterprise.context.ApplicationScoped;
+import jakarta.inject.Inject;
+
+import org.eclipse.microprofile.config.inject.ConfigProperty;
+import org.eclipse.microprofile.metrics.MetricUnits;
+import org.eclipse.microprofile.metrics.annotation.Gauge;
+
+/**
+ * Owns the application access log writer and its configuration.
+ */
+@ApplicationScoped
+public class AccessLog {
+
+    private static final Logger LOGGER = Logger.getLogger(AccessLog.class.getName());
+
+    @Inject
+    @ConfigProperty(name = "io_openliberty_sample_accesslog_enabled", defaultValue = "true")
+    boolean enabled;
+
+    @Inject
+    @ConfigProperty(name = "io_openliberty_sample_accesslog_file", defaultValue = "logs/access.log")
+    String file;
+
+    @Inject
+    @ConfigProperty(name = "io_openliberty_sample_accesslog_queueCapacity", defaultValue = "8192")
+    int queueCapacity;
+
+    @Inject
+    @ConfigProperty(name = "io_openliberty_sample_accesslog_batchSize", defaultValue = "256")
+    int batchSize;
+
+    @Inject
+    @ConfigProperty(name = "io_openliberty_sample_accesslog_flushBytes", defaultValue = "65536")
+    int flushBytes;
+
+    @Inject
+    @ConfigProperty(name = "io_openliberty_sample_accesslog_flushIntervalMillis", defaultValue = "1000")
+    long flushIntervalMillis;
+
+    @Inject
+    @ConfigProperty(name = "io_openliberty_sample_accesslog_maxFileBytes", defaultValue = "10485760")
+    long maxFileBytes;
+
+    @Inject
+    @ConfigProperty(name = "io_openliberty_sample_accesslog_maxFiles", defaultValue = "5")
+    int maxFiles;
+
+    private AccessLogWriter writer;
+
+    @PostConstruct
+    void init() {
+        if (!enabled) {
+            return;
+        }
+        AccessLogWriter w = new AccessLogWriter(Paths.get(file), queueCapacity, batchSize, flushBytes,
+                flushIntervalMillis, maxFileBytes, maxFiles);
+        try {
+            w.start();
+            writer = w;
+        } catch (IOException e) {
+            LOGGER.log(Level.WARNING, "Access logging disabled: unable to open " + file, e);
+        }
+    }
+
+    @PreDestroy
+    void destroy() {
+        if (writer != null) {
+            try {
+                writer.close();
+            } catch (IOException e) {
+                LOGGER.log(Level.WARNING, "Unable to close access log " + file, e);
+            }
+        }
+    }
+
+    public boolean isEnabled() {
+        return writer != null;
+    }
+
+    public void log(AccessLogRecord record) {
+        if (writer != null) {
+            writer.offer(record);
+        }
+    }
+
+    @Gauge(name = "accessLog.dropped", absolute = true, unit = MetricUnits.NONE,
+            description = "Number of access log records dropped because the queue was full")
+    public long getDroppedCount() {
+        return writer == null ? 0 : writer.getDroppedCount();
+    }
+
+    @Gauge(name = "accessLog.queueSize", absolute = true, unit = MetricUnits.NONE,
+            description = "Number of access log records waiting to be written")
+    public long getQueueSize() {
+        return writer == null ? 0 : writer.getQueueSize();
+    }
+}
@@ -0,0 +1,60 @@
+/*******************************************************************************
+ * Copyright (c) 2026 IBM Corporation and others.
+ * All rights reserved. This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License v1.0
+ * which accompanies this distribution, and is available at
+ * http://www.eclipse.org/legal/epl-v10.html
+ *
+ * Contributors:
+ *     IBM Corporation - Initial implementation
+ *******************************************************************************/
+
+package io.openliberty.sample.accesslog;
+
+import jakarta.annotation.Priority;
+import jakarta.enterprise.context.ApplicationScoped;
+import jakarta.inject.Inject;
+import jakarta.ws.rs.container.ContainerRequestContext;
+import jakarta.ws.rs.container.ContainerRequestFilter;
+import jakarta.ws.rs.container.ContainerResponseContext;
+import jakarta.ws.rs.container.ContainerResponseFilter;
+import jakarta.ws.rs.ext.Provider;
+
+/**
+ * Records one {@link AccessLogRecord} per request. The only work done on the
+ * request thread is building the record and offering it to the writer queue.
+ *
+ * Its priority is lower than every other filter, so its request filter runs
+ * first and its response filter runs last. Requests aborted by a later request
+ * filter, such as an injected fault, are still logged, and the duration
+ * includes the time spent in the other filters.
+ */
+@Provider
+@Priority(0)
+@ApplicationScoped
+public class AccessLogFilter implements ContainerRequestFilter, ContainerResponseFilter {
+
+    private static final String START_PROPERTY = AccessLogFilter.class.getName() + ".start";
+
+    @Inject
+    AccessLog accessLog;
+
+    @Override
+    public void filter(ContainerRequestContext requestContext) {
+        if (accessLog.isEnabled()) {
+            requestContext.setProperty(START_PROPERTY, System.nanoTime());
+        }
+    }
+
+    @Override
+    public void filter(ContainerRequestContext requestContext, ContainerResponseContext responseContext) {
+        Object start = requestContext.getProperty(START_PROPERTY);
+        if (start == null) {
+            return;
+        }
+        long durationMicros = (System.nanoTime() - (Long) start) / 1000;
+        accessLog.log(new AccessLogRecord(System.currentTimeMillis(), requestContext.getMethod(),
+                requestContext.getUriInfo().getRequestUri().getRawPath(), responseContext.getStatus(),
+                durationMicros));
+    }
+}
@@ -0,0 +1,101 @@
+/*******************************************************************************
+ * Copyright (c) 2026 IBM Corporation and others.
+ * All rights reserved. This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License v1.0
+ * which accompanies this distribution, and is available at
+ * http://www.eclipse.org/legal/epl-v10.html
+ *
+ * Contributors:
+ *     IBM Corporation - Initial implementation
+ *******************************************************************************/
+
+package io.openliberty.sample.accesslog;
+
+/**
+ * A single access log entry. Records are immutable and bounded in size: the
+ * request path is truncated to {@link #MAX_PATH_LENGTH} characters so that a
+ * full queue never holds more than a known amount of memory.
+ */
+public final class AccessLogRecord {
+
+    static final int MAX_PATH_LENGTH = 256;
+
+    private final long timestamp;
+    private final String method;
+    private final String path;
+    private final int status;
+    private final long durationMicros;
+
+    public AccessLogRecord(long timestamp, String method, String path, int status, long durationMicros) {
+        this.timestamp = timestamp;
+        this.method = method;
+        this.path = path.length() > MAX_PATH_LENGTH ? path.substring(0, MAX_PATH_LENGTH) : path;
+        this.status = status;
+        this.durationMicros = durationMicros;
+    }
+
+    public long getTimestamp() {
+        return timestamp;
+    }
+
+    public String getMethod() {
+        return method;
+    }
+
+    public String getPath() {
+        return path;
+    }
+
+    public int getStatus() {
+        return status;
+    }
+
+    public long getDurationMicros() {
+        return durationMicros;
+    }
+
+    /**
+     * Appends this record as a single JSON line, including the trailing newline.
+     */
+    void appendJson(StringBuilder sb) {
+        sb.append("{\"timestamp\":").append(timestamp)
+          .append(",\"method\":");
+        appendString(sb, method);
+        sb.append(",\"path\":");
+        appendString(sb, path);
+        sb.append(",\"status\":").append(status)
+          .append(",\"durationMicros\":").append(durationMicros)
+          .append("}\n");
+    }
+
+    private static void appendString(StringBuilder sb, String value) {
+        sb.append('"');
+        for (int i = 0; i < value.length(); i++) {
+            char c = value.charAt(i);
+            switch (c) {
+            case '"':
+                sb.append("\\\"");
+                break;
+            case '\\':
+                sb.append("\\\\");
+                break;
+            case '\n':
+                sb.append("\\n");
+                break;
+            case '\r':
+                sb.append("\\r");
+                break;
+            case '\t':
+                sb.append("\\t");
+                break;
+            default:
+                if (c < 0x20) {
+                    sb.append(String.format("\\u%04x", (int) c));
+                } else {
+                    sb.append(c);
+                }
+            }
+        }
+        sb.append('"');
+    }
+}
@@ -0,0 +1,258 @@
+/*******************************************************************************
+ * Copyright (c) 2026 IBM Corporation and others.
+ * All rights reserved. This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License v1.0
+ * which accompanies this distribution, and is available at
+ * http://www.eclipse.org/legal/epl-v10.html
+ *
+ * Contributors:
+ *     IBM Corporation - Initial implementation
+ *******************************************************************************/
+
+package io.openliberty.sample.accesslog;
+
+import java.io.Closeable;
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardCopyOption;
+import java.nio.file.StandardOpenOption;
+import java.util.Queue;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.concurrent.locks.LockSupport;
+import java.util.logging.Level;
+import java.util.logging.Logger;
+
+/**
+ * Writes {@link AccessLogRecord}s as JSON lines from a single background thread.
+ *
+ * Request threads only call {@link #offer(AccessLogRecord)}, which never blocks
+ * or takes a lock: the queue is a lock-free linked queue bounded by an atomic
+ * count, and when it is full the record is dropped and counted. The writer
+ * thread drains the queue in batches, buffers the encoded lines and writes them
+ * to a {@link FileChannel} once the buffer reaches {@code flushBytes} or
+ * {@code flushIntervalMillis} has passed. The file is rotated to
+ * {@code <file>.1 .. <file>.<maxFiles>} once it would exceed {@code maxFileBytes}.
+ */
+public class AccessLogWriter implements Closeable {
+
+    private static final Logger LOGGER = Logger.getLogger(AccessLogWriter.class.getName());
+
+    private final Path file;
+    private final Queue<AccessLogRecord> queue = new ConcurrentLinkedQueue<AccessLogRecord>();
+    private final AtomicInteger queued = new AtomicInteger();
+    private final int queueCapacity;
+    private final int batchSize;
+    private final int flushBytes;
+    private final long flushIntervalNanos;
+    private final long maxFileBytes;
+    private final int maxFiles;
+
+    private final LongAdder dropped = new LongAdder();
+    private final LongAdder written = new LongAdder();
+
+    private final StringBuilder buffer = new StringBuilder();
+    private int bufferedRecords;
+    private FileChannel channel;
+    private long fileSize;
+
+    private volatile boolean running;
+    private final AtomicBoolean idle = new AtomicBoolean();
+    private Thread thread;
+
+    public AccessLogWriter(Path file, int queueCapacity, int batchSize, int flushBytes,
+            long flushIntervalMillis, long maxFileBytes, int maxFiles) {
+        if (maxFiles < 1) {
+            throw new IllegalArgumentException("maxFiles must be at least 1: " + maxFiles);
+        }
+        this.file = file;
+        this.queueCapacity = queueCapacity;
+        this.batchSize = batchSize;
+        this.flushBytes = flushBytes;
+        this.flushIntervalNanos = TimeUnit.MILLISECONDS.toNanos(flushIntervalMillis);
+        this.maxFileBytes = maxFileBytes;
+        this.maxFiles = maxFiles;
+    }
+
+    /**
+     * Opens the log file and starts the writer thread.
+     */
+    public synchronized void start() throws IOException {
+        if (running) {
+            return;
+        }
+        openChannel();
+        running = true;
+        thread = new Thread(this::run, "access-log-writer");
+        thread.setDaemon(true);
+        thread.start();
+    }
+
+    /**
+     * Enqueues a record without blocking.
+     *
+     * @return false if the queue was full and the record was dropped
+     */
+    public boolean offer(AccessLogRecord record) {
+        if (queued.incrementAndGet() > queueCapacity) {
+            queued.decrementAndGet();
+            dropped.increment();
+            return false;
+        }
+        queue.offer(record);
+        if (idle.get() && idle.compareAndSet(true, false)) {
+            LockSupport.unpark(thread);
+        }
+        return true;
+    }
+
+    public long getDroppedCount() {
+        return dropped.sum();
+    }
+
+    public long getWrittenCount() {
+        return written.sum();
+    }
+
+    public int getQueueSize() {
+        return queued.get();
+    }
+
+    /**
+     * Stops the writer thread once the queue is drained and closes the file.
+     */
+    @Override
+    public synchronized void close() throws IOException {
+        if (!running) {
+            return;
+        }
+        running = false;
+        // The thread is not interrupted: interrupting a thread blocked in
+        // FileChannel.write closes the channel. Unparking only ends its wait.
+        LockSupport.unpark(thread);
+        try {
+            thread.join();
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+    }
+
+    private void run() {
+        long lastFlush = System.nanoTime();
+        while (running || !queue.isEmpty()) {
+            int drained = 0;
+            AccessLogRecord record;
+            while (drained < batchSize && (record = queue.poll()) != null) {
+                record.appendJson(buffer);
+                drained++;
+            }
+            if (drained > 0) {
+                queued.addAndGet(-drained);
+                bufferedRecords += drained;
+            } else {
+                long waitNanos = flushIntervalNanos;
+                if (bufferedRecords > 0) {
+                    waitNanos = Math.max(0, flushIntervalNanos - (System.nanoTime() - lastFlush));
+                }
+                await(waitNanos);
+                if (Thread.interrupted()) {
+                    break;
+                }
+            }
+            long now = System.nanoTime();
+            if (bufferedRecords == 0) {
+                lastFlush = now;
+            } else if (buffer.length() >= flushBytes || now - lastFlush >= flushIntervalNanos) {
+                flush();
+                lastFlush = now;
+            }
+        }
+        flush();
+        try {
+            channel.force(false);
+            channel.close();
+        } catch (IOException e) {
+            LOGGER.log(Level.WARNING, "Unable to close access log " + file, e);
+        }
+    }
+
+    /**
+     * Parks the writer until a record is offered, {@link #close()} is called or
+     * {@code nanos} pass. Only the producer that clears {@code idle} unparks the
+     * writer, so a burst of offers costs one unpark. The queue is checked again
+     * after setting {@code idle}, so a record offered in between is never missed.
+     */
+    private void await(long nanos) {
+        idle.set(true);
+        if (running && queue.isEmpty()) {
+            LockSupport.parkNanos(this, nanos);
+        }
+        idle.set(false);
+    }
+
+    private void flush() {
+        if (bufferedRecords == 0) {
+            return;
+        }
+        ByteBuffer bytes = ByteBuffer.wrap(buffer.toString().getBytes(StandardCharsets.UTF_8));
+        try {
+            if (fileSize > 0 && fileSize + bytes.remaining() > maxFileBytes) {
+                try {
+                    rotate();
+                } catch (IOException e) {
+                    // Keep appending to the current file; rotation is retried on the next flush.
+                    LOGGER.log(Level.WARNING, "Unable to rotate access log " + file, e);
+                }
+            }
+            while (bytes.hasRemaining()) {
+                fileSize += channel.write(bytes);
+            }
+            written.add(bufferedRecords);
+        } catch (IOException e) {
+            dropped.add(bufferedRecords);
+            LOGGER.log(Level.WARNING, "Unable to write access log " + file, e);
+        }
+        buffer.setLength(0);
+        bufferedRecords = 0;
+    }
+
+    private void rotate() throws IOException {
+        if (channel.isOpen()) {
+            channel.force(false);
+            channel.close();
+        }
+        try {
+            for (int i = maxFiles - 1; i >= 1; i--) {
+                Path source = rotated(i);
+                if (Files.exists(source)) {
+                    Files.move(source, rotated(i + 1), StandardCopyOption.REPLACE_EXISTING);
+                }
+            }
+            Files.move(file, rotated(1), StandardCopyOption.REPLACE_EXISTING);
+        } finally {
+            // Reopens the new file, or the old one if it could not be moved.
+            openChannel();
+        }
+    }
+
+    private Path rotated(int index) {
+        return file.resolveSibling(file.getFileName() + "." + index);
+    }
+
+    private void openChannel() throws IOException {
+        Path parent = file.toAbsolutePath().getParent();
+        if (parent != null) {
+            Files.createDirectories(parent);
+        }
+        channel = FileChannel.open(file, StandardOpenOption.CREATE, StandardOpenOption.WRITE,
+                StandardOpenOption.APPEND);
+        fileSize = channel.size();
+    }
+}
@@ -0,0 +1,81 @@
+/*******************************************************************************
+ * Copyright (c) 2026 IBM Corporation and others.
+ * All rights reserved. This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License v1.0
+ * which accompanies this distribution, and is available at
+ * http://www.eclipse.org/legal/epl-v10.html
+ *
+ * Contributors:
+ *     IBM Corporation - Initial implementation
+ *******************************************************************************/
+
+package io.openliberty.sample.cache;
+
+import java.time.Duration;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+
+import jakarta.enterprise.context.ApplicationScoped;
+import jakarta.enterprise.event.Observes;
+import jakarta.inject.Inject;
+
+import org.eclipse.microprofile.metrics.MetricRegistry;
+import org.eclipse.microprofile.metrics.Tag;
+import org.eclipse.microprofile.metrics.Timer;
+
+import io.openliberty.sample.config.ConfigChangedEvent;
+
+/**
+ * Holds the caches created for {@link CachedResult} methods and exports their
+ * hit ratio, hit, miss and eviction counts and load time as metrics tagged
+ * with the cache name.
+ */
+@ApplicationScoped
+public class CacheRegistry {
+
+    @Inject
+    MetricRegistry metricRegistry;
+
+    private final Map<String, ResultCache<Object, Object>> caches = new ConcurrentHashMap<String, ResultCache<Object, Object>>();
+    private final Map<String, Boolean> invalidateOnConfigChange = new ConcurrentHashMap<String, Boolean>();
+
+    public ResultCache<Object, Object> getCache(String name, CachedResult spec) {
+        ResultCache<Object, Object> cache = caches.get(name);
+        if (cache != null) {
+            return cache;
+        }
+        return caches.computeIfAbsent(name, n -> createCache(n, spec));
+    }
+
+    /**
+     * Clears the named cache, if it exists.
+     */
+    public void invalidate(String name) {
+        ResultCache<Object, Object> cache = caches.get(name);
+        if (cache != null) {
+            cache.invalidateAll();
+        }
+    }
+
+    void onConfigChange(@Observes ConfigChangedEvent event) {
+        for (Map.Entry<String, ResultCache<Object, Object>> entry : caches.entrySet()) {
+            if (invalidateOnConfigChange.getOrDefault(entry.getKey(), false)) {
+                entry.getValue().invalidateAll();
+            }
+        }
+    }
+
+    private ResultCache<Object, Object> createCache(String name, CachedResult spec) {
+        Tag tag = new Tag("cache", name);
+        Timer loadTimer = metricRegistry.timer("cache.loadTime", tag);
+        ResultCache<Object, Object> cache = new ResultCache<Object, Object>(name, spec.maximumSize(),
+                spec.expireAfterWriteMillis(), nanos -> loadTimer.update(Duration.ofNanos(nanos)));
+        metricRegistry.gauge("cache.hitRatio", cache, ResultCache::getHitRatio, tag);
+        metricRegistry.gauge("cache.hits", cache, ResultCache::getHitCount, tag);
+        metricRegistry.gauge("cache.misses", cache, ResultCache::getMissCount, tag);
+        metricRegistry.gauge("cache.evictions", cache, ResultCache::getEvictionCount, tag);
+        metricRegistry.gauge("cache.size", cache, ResultCache::size, tag);
+        invalidateOnConfigChange.put(name, spec.invalidateOnConfigChange());
+        return cache;
+    }
+}
@@ -0,0 +1,60 @@
+/*******************************************************************************
+ * Copyright (c) 2026 IBM Corporation and others.
+ * All rights reserved. This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License v1.0
+ * which accompanies this distribution, and is available at
+ * http://www.eclipse.org/legal/epl-v10.html
+ *
+ * Contributors:
+ *     IBM Corporation - Initial implementation
+ *******************************************************************************/
+
+package io.openliberty.sample.cache;
+
+import static java.lang.annotation.ElementType.METHOD;
+import static java.lang.annotation.ElementType.TYPE;
+import static java.lang.annotation.RetentionPolicy.RUNTIME;
+
+import java.lang.annotation.Inherited;
+import java.lang.annotation.Retention;
+import java.lang.annotation.Target;
+
+import jakarta.enterprise.util.Nonbinding;
+import jakarta.interceptor.InterceptorBinding;
+
+/**
+ * Caches the result of a CDI bean method, keyed by its arguments.
+ * Null results and exceptions are not cached.
+ */
+@Inherited
+@InterceptorBinding
+@Retention(RUNTIME)
+@Target({ METHOD, TYPE })
+public @interface CachedResult {
+
+    /**
+     * Name of the cache, used in metric tags. Defaults to the declaring class
+     * and method name.
+     */
+    @Nonbinding
+    String name() default "";
+
+    /**
+     * Maximum number of entries kept in the cache.
+     */
+    @Nonbinding
+    int maximumSize() default 100;
+
+    /**
+     * Time after which an entry is reloaded, in milliseconds. Zero or less
+     * means entries do not expire.
+     */
+    @Nonbinding
+    long expireAfterWriteMillis() default 0;
+
+    /**
+     * Whether the cache is cleared when a {@link io.openliberty.sample.config.ConfigChangedEvent} is fired.
+     */
+    @Nonbinding
+    boolean invalidateOnConfigChange() default false;
+}
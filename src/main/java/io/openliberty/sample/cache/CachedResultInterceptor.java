@@ -0,0 +1,51 @@
+/*******************************************************************************
+ * Copyright (c) 2026 IBM Corporation and others.
+ * All rights reserved. This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License v1.0
+ * which accompanies this distribution, and is available at
+ * http://www.eclipse.org/legal/epl-v10.html
+ *
+ * Contributors:
+ *     IBM Corporation - Initial implementation
+ *******************************************************************************/
+
+package io.openliberty.sample.cache;
+
+import java.lang.reflect.Method;
+import java.util.Arrays;
+
+import jakarta.annotation.Priority;
+import jakarta.inject.Inject;
+import jakarta.interceptor.AroundInvoke;
+import jakarta.interceptor.Interceptor;
+import jakarta.interceptor.InvocationContext;
+
+/**
+ * Serves {@link CachedResult} methods from a {@link ResultCache} keyed by the
+ * method arguments.
+ */
+@CachedResult
+@Interceptor
+@Priority(Interceptor.Priority.APPLICATION)
+public class CachedResultInterceptor {
+
+    @Inject
+    CacheRegistry cacheRegistry;
+
+    @AroundInvoke
+    public Object cache(InvocationContext context) throws Exception {
+        Method method = context.getMethod();
+        CachedResult spec = method.getAnnotation(CachedResult.class);
+        if (spec == null) {
+            spec = method.getDeclaringClass().getAnnotation(CachedResult.class);
+        }
+        if (spec == null || method.getReturnType() == void.class) {
+            return context.proceed();
+        }
+        String name = spec.name().isEmpty()
+                ? method.getDeclaringClass().getName() + "." + method.getName()
+                : spec.name();
+        ResultCache<Object, Object> cache = cacheRegistry.getCache(name, spec);
+        return cache.get(Arrays.asList(context.getParameters()), context::proceed);
+    }
+}
@@ -0,0 +1,266 @@
+/*******************************************************************************
+ * Copyright (c) 2026 IBM Corporation and others.
+ * All rights reserved. This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License v1.0
+ * which accompanies this distribution, and is available at
+ * http://www.eclipse.org/legal/epl-v10.html
+ *
+ * Contributors:
+ *     IBM Corporation - Initial implementation
+ *******************************************************************************/
+
+package io.openliberty.sample.cache;
+
+import java.util.HashMap;
+import java.util.Iterator;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.concurrent.Callable;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.function.LongConsumer;
+
+/**
+ * A bounded cache using the W-TinyLFU eviction policy.
+ *
+ * New entries enter a small LRU window (1% of the capacity, at least one entry
+ * unless the capacity is one). Entries pushed
+ * out of the window compete with the least recently used entry of the main
+ * region's probation segment, and the one a {@link FrequencySketch} has seen
+ * more often stays. Entries hit while on probation move to the protected
+ * segment (80% of the main region). This keeps frequently used results even
+ * when a burst of one-off keys passes through.
+ *
+ * The policy is guarded by a single lock, which is cheap at the sizes used
+ * for method results. Concurrent misses for the same key share one load
+ * through a {@link SingleFlight}.
+ */
+public class ResultCache<K, V> {
+
+    private static final int WINDOW = 0;
+    private static final int PROBATION = 1;
+    private static final int PROTECTED = 2;
+
+    private final String name;
+    private final int windowMax;
+    private final int protectedMax;
+    private final int mainMax;
+    private final long expireAfterWriteNanos;
+    private final LongConsumer loadTimeListener;
+
+    private final Map<K, Node<K, V>> data = new HashMap<K, Node<K, V>>();
+    private final LinkedHashMap<K, Node<K, V>> window = new LinkedHashMap<K, Node<K, V>>();
+    private final LinkedHashMap<K, Node<K, V>> probation = new LinkedHashMap<K, Node<K, V>>();
+    private final LinkedHashMap<K, Node<K, V>> protectedSegment = new LinkedHashMap<K, Node<K, V>>();
+    private final FrequencySketch sketch;
+
+    private final SingleFlight<K, V> loading = new SingleFlight<K, V>();
+    private long generation;
+
+    private final LongAdder hits = new LongAdder();
+    private final LongAdder misses = new LongAdder();
+    private final LongAdder evictions = new LongAdder();
+
+    public ResultCache(String name, int maximumSize, long expireAfterWriteMillis, LongConsumer loadTimeListener) {
+        if (maximumSize < 1) {
+            throw new IllegalArgumentException("maximumSize must be at least 1: " + maximumSize);
+        }
+        this.name = name;
+        // A single entry cache has no room for a window, so new entries go straight
+        // to the main region. The two regions always add up to maximumSize.
+        this.windowMax = maximumSize < 2 ? 0 : Math.max(1, maximumSize / 100);
+        this.mainMax = maximumSize - windowMax;
+        this.protectedMax = Math.max(1, mainMax * 8 / 10);
+        this.expireAfterWriteNanos = expireAfterWriteMillis > 0
+                ? TimeUnit.MILLISECONDS.toNanos(expireAfterWriteMillis) : Long.MAX_VALUE;
+        this.loadTimeListener = loadTimeListener;
+        this.sketch = new FrequencySketch(maximumSize);
+    }
+
+    public String getName() {
+        return name;
+    }
+
+    /**
+     * Returns the cached value for {@code key}, calling {@code loader} on a
+     * miss. A loader that throws or returns null leaves the cache unchanged.
+     */
+    public V get(K key, Callable<V> loader) throws Exception {
+        V value = getIfPresent(key);
+        if (value != null) {
+            return value;
+        }
+        return loading.run(key, () -> load(key, loader));
+    }
+
+    private V load(K key, Callable<V> loader) throws Exception {
+        long startGeneration;
+        synchronized (this) {
+            startGeneration = generation;
+        }
+        long start = System.nanoTime();
+        V value = loader.call();
+        long end = System.nanoTime();
+        if (loadTimeListener != null) {
+            loadTimeListener.accept(end - start);
+        }
+        if (value != null) {
+            put(key, value, startGeneration, end);
+        }
+        return value;
+    }
+
+    public synchronized V getIfPresent(K key) {
+        sketch.increment(key);
+        Node<K, V> node = data.get(key);
+        if (node == null) {
+            misses.increment();
+            return null;
+        }
+        if (System.nanoTime() - node.writeTime >= expireAfterWriteNanos) {
+            remove(node);
+            misses.increment();
+            return null;
+        }
+        hits.increment();
+        onHit(node);
+        return node.value;
+    }
+
+    /**
+     * Removes every entry. Loads that started before this call do not store their result.
+     */
+    public synchronized void invalidateAll() {
+        data.clear();
+        window.clear();
+        probation.clear();
+        protectedSegment.clear();
+        generation++;
+    }
+
+    public synchronized int size() {
+        return data.size();
+    }
+
+    public long getHitCount() {
+        return hits.sum();
+    }
+
+    public long getMissCount() {
+        return misses.sum();
+    }
+
+    public long getEvictionCount() {
+        return evictions.sum();
+    }
+
+    public double getHitRatio() {
+        long h = hits.sum();
+        long total = h + misses.sum();
+        return total == 0 ? 0 : (double) h / total;
+    }
+
+    private synchronized void put(K key, V value, long startGeneration, long writeTime) {
+        if (startGeneration != generation) {
+            return;
+        }
+        Node<K, V> node = data.get(key);
+        if (node != null) {
+            node.value = value;
+            node.writeTime = writeTime;
+            onHit(node);
+            return;
+        }
+        node = new Node<K, V>(key, value, writeTime);
+        data.put(key, node);
+        window.put(key, node);
+        if (window.size() > windowMax) {
+            evict();
+        }
+    }
+
+    private void onHit(Node<K, V> node) {
+        switch (node.segment) {
+        case WINDOW:
+            moveToEnd(window, node);
+            break;
+        case PROBATION:
+            probation.remove(node.key);
+            node.segment = PROTECTED;
+            protectedSegment.put(node.key, node);
+            if (protectedSegment.size() > protectedMax) {
+                Node<K, V> demoted = removeFirst(protectedSegment);
+                demoted.segment = PROBATION;
+                probation.put(demoted.key, demoted);
+            }
+            break;
+        default:
+            moveToEnd(protectedSegment, node);
+        }
+    }
+
+    /**
+     * Moves the window's eldest entry to probation and, if the main region is
+     * full, evicts whichever of it and the probation victim is used less often.
+     */
+    private void evict() {
+        Node<K, V> candidate = removeFirst(window);
+        candidate.segment = PROBATION;
+        if (probation.size() + protectedSegment.size() < mainMax) {
+            probation.put(candidate.key, candidate);
+            return;
+        }
+        Node<K, V> victim = probation.isEmpty() ? null : probation.values().iterator().next();
+        if (victim == null) {
+            victim = protectedSegment.values().iterator().next();
+        }
+        if (sketch.frequency(candidate.key) > sketch.frequency(victim.key)) {
+            remove(victim);
+            probation.put(candidate.key, candidate);
+        } else {
+            data.remove(candidate.key);
+        }
+        evictions.increment();
+    }
+
+    private void remove(Node<K, V> node) {
+        data.remove(node.key);
+        segment(node).remove(node.key);
+    }
+
+    private LinkedHashMap<K, Node<K, V>> segment(Node<K, V> node) {
+        switch (node.segment) {
+        case WINDOW:
+            return window;
+        case PROBATION:
+            return probation;
+        default:
+            return protectedSegment;
+        }
+    }
+
+    private static <K, V> void moveToEnd(LinkedHashMap<K, Node<K, V>> segment, Node<K, V> node) {
+        segment.remove(node.key);
+        segment.put(node.key, node);
+    }
+
+    private static <K, V> Node<K, V> removeFirst(LinkedHashMap<K, Node<K, V>> segment) {
+        Iterator<Node<K, V>> it = segment.values().iterator();
+        Node<K, V> node = it.next();
+        it.remove();
+        return node;
+    }
+
+    private static final class Node<K, V> {
+        final K key;
+        V value;
+        long writeTime;
+        int segment = WINDOW;
+
+        Node(K key, V value, long writeTime) {
+            this.key = key;
+            this.value = value;
+            this.writeTime = writeTime;
+        }
+    }
+}
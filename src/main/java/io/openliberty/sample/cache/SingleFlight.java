@@ -0,0 +1,76 @@
+/*******************************************************************************
+ * Copyright (c) 2026 IBM Corporation and others.
+ * All rights reserved. This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License v1.0
+ * which accompanies this distribution, and is available at
+ * http://www.eclipse.org/legal/epl-v10.html
+ *
+ * Contributors:
+ *     IBM Corporation - Initial implementation
+ *******************************************************************************/
+
+
+package io.openliberty.sample.cache;
+
+import java.util.Map;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * Runs at most one computation per key at a time. Callers arriving while a
+ * computation for their key is running wait for it instead of starting their
+ * own. Every caller sees the same outcome: the value, or the exception the
+ * computation threw, unwrapped, whether it ran on the caller's thread or not.
+ * Nothing is kept once the computation finishes, so a failure is retried by
+ * the next caller.
+ */
+public class SingleFlight<K, V> {
+
+    /**
+     * A computation that may throw a checked exception of type {@code E}.
+     * Every caller of one key should pass computations with the same {@code E}.
+     */
+    @FunctionalInterface
+    public interface Computation<V, E extends Exception> {
+        V compute() throws E;
+    }
+
+    private final Map<K, CompletableFuture<V>> inFlight = new ConcurrentHashMap<K, CompletableFuture<V>>();
+
+    public <E extends Exception> V run(K key, Computation<V, E> computation) throws E {
+        CompletableFuture<V> future = new CompletableFuture<V>();
+        CompletableFuture<V> running = inFlight.putIfAbsent(key, future);
+        if (running != null) {
+            return SingleFlight.<V, E>join(running);
+        }
+        try {
+            V value = computation.compute();
+            future.complete(value);
+            return value;
+        } catch (Throwable t) {
+            // Includes Errors, so waiting callers never hang.
+            future.completeExceptionally(t);
+            throw t;
+        } finally {
+            inFlight.remove(key, future);
+        }
+    }
+
+    @SuppressWarnings("unchecked")
+    private static <V, E extends Exception> V join(CompletableFuture<V> future) throws E {
+        try {
+            return future.join();
+        } catch (CompletionException e) {
+            Throwable cause = e.getCause();
+            if (cause instanceof RuntimeException) {
+                throw (RuntimeException) cause;
+            }
+            if (cause instanceof Error) {
+                throw (Error) cause;
+            }
+            // The future is only completed by a computation, which can only throw E.
+            throw (E) cause;
+        }
+    }
+}
@@ -0,0 +1,31 @@
+/*******************************************************************************
+ * Copyright (c) 2026 IBM Corporation and others.
+ * All rights reserved. This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License v1.0
+ * which accompanies this distribution, and is available at
+ * http://www.eclipse.org/legal/epl-v10.html
+ *
+ * Contributors:
+ *     IBM Corporation - Initial implementation
+ *******************************************************************************/
+
+package io.openliberty.sample.config;
+
+/**
+ * CDI event fired after a config property is changed at runtime.
+ */
+public class ConfigChangedEvent {
+
+  private final String name;
+
+  public ConfigChangedEvent(String name) {
+    this.name = name;
+  }
+
+  /**
+   * @return the name of the property that was set or cleared
+   */
+  public String getName() {
+    return name;
+  }
+}
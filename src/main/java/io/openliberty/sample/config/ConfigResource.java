@@ -25,6 +25,8 @@ import jakarta.ws.rs.Produces;
 import org.eclipse.microprofile.config.Config;
 import org.eclipse.microprofile.config.spi.ConfigSource;
 
+import io.openliberty.sample.cache.CachedResult;
+
 @RequestScoped
 @Path("/config")
 public class ConfigResource {
@@ -34,12 +36,14 @@ public class ConfigResource {
 
   @GET
   @Produces(MediaType.APPLICATION_JSON)
+  @CachedResult(maximumSize = 1, expireAfterWriteMillis = 1000, invalidateOnConfigChange = true)
   public JsonObject getAllConfig() {
     JsonObjectBuilder builder = Json.createObjectBuilder();
     return builder.add("ConfigSources", sourceJsonBuilder())
                   .add("ConfigProperties", propertyJsonBuilder()).build();
   }
 
+  @CachedResult(maximumSize = 1, expireAfterWriteMillis = 1000, invalidateOnConfigChange = true)
   public JsonObject sourceJsonBuilder() {
     JsonObjectBuilder sourcesBuilder = Json.createObjectBuilder();
     for (ConfigSource source : config.getConfigSources()) {
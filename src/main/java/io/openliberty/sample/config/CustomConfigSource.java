@@ -24,10 +24,16 @@ import java.io.InputStreamReader;
 
 import org.eclipse.microprofile.config.spi.ConfigSource;
 
+import io.openliberty.sample.system.StartupTimeline;
+
 public class CustomConfigSource implements ConfigSource {
 
   String fileLocation = "META-INF/CustomConfigSource.json";
 
+  public CustomConfigSource() {
+    StartupTimeline.mark("configSource.CustomConfigSource");
+  }
+
   @Override
   public int getOrdinal() {
     return Integer.parseInt(getProperties().get("config_ordinal"));
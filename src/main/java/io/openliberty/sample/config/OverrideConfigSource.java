@@ -0,0 +1,127 @@
+/*******************************************************************************
+ * Copyright (c) 2026 IBM Corporation and others.
+ * All rights reserved. This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License v1.0
+ * which accompanies this distribution, and is available at
+ * http://www.eclipse.org/legal/epl-v10.html
+ *
+ * Contributors:
+ *     IBM Corporation - Initial implementation
+ *******************************************************************************/
+
+package io.openliberty.sample.config;
+
+import java.io.IOException;
+import java.nio.file.Paths;
+import java.util.HashMap;
+import java.util.Map;
+import java.util.Set;
+import java.util.logging.Level;
+import java.util.logging.Logger;
+
+import org.eclipse.microprofile.config.spi.ConfigSource;
+
+import io.openliberty.sample.system.StartupTimeline;
+
+/**
+ * A ConfigSource for overrides set at runtime through {@link OverrideResource}.
+ * Its ordinal is higher than {@link CustomConfigSource} so an override wins
+ * over every file based source until it is cleared.
+ *
+ * The journal location is read from the {@code io_openliberty_sample_config_overrideJournal}
+ * system property or environment variable, because a ConfigSource cannot use
+ * MicroProfile Config itself.
+ */
+public class OverrideConfigSource implements ConfigSource {
+
+  public static final int ORDINAL = 600;
+
+  private static final String JOURNAL_KEY = "io_openliberty_sample_config_overrideJournal";
+  private static final String DEFAULT_JOURNAL = "overrides/config-overrides.journal";
+  private static final int COMPACT_THRESHOLD = 1000;
+
+  private static final Logger LOGGER = Logger.getLogger(OverrideConfigSource.class.getName());
+
+  private static volatile OverrideJournal journal;
+
+  /**
+   * Returns the journal shared by this ConfigSource and the admin resource,
+   * replaying it from disk on first use.
+   */
+  public static OverrideJournal getJournal() {
+    OverrideJournal j = journal;
+    if (j == null) {
+      synchronized (OverrideConfigSource.class) {
+        j = journal;
+        if (j == null) {
+          j = openJournal();
+          journal = j;
+        }
+      }
+    }
+    return j;
+  }
+
+  /**
+   * Closes the journal, stopping its fsync thread. Overrides can still be
+   * read afterwards but no longer changed.
+   */
+  public static void closeJournal() {
+    OverrideJournal j;
+    synchronized (OverrideConfigSource.class) {
+      j = journal;
+    }
+    if (j != null) {
+      try {
+        j.close();
+      } catch (IOException e) {
+        LOGGER.log(Level.WARNING, "Unable to close config override journal", e);
+      }
+    }
+  }
+
+  private static OverrideJournal openJournal() {
+    String location = System.getProperty(JOURNAL_KEY, System.getenv(JOURNAL_KEY));
+    if (location == null || location.isEmpty()) {
+      location = DEFAULT_JOURNAL;
+    }
+    OverrideJournal j = new OverrideJournal(Paths.get(location), COMPACT_THRESHOLD);
+    long start = System.nanoTime();
+    try {
+      j.open();
+      StartupTimeline.record("configSource.overrideJournalReplay", start);
+      return j;
+    } catch (IOException | RuntimeException e) {
+      // Falling back keeps every other ConfigSource usable; failing here would
+      // make each later lookup retry and throw again.
+      LOGGER.log(Level.SEVERE, "Unable to open config override journal " + location
+          + ", overrides will not be persisted", e);
+      return new OverrideJournal(null, COMPACT_THRESHOLD);
+    }
+  }
+
+  @Override
+  public int getOrdinal() {
+    return ORDINAL;
+  }
+
+  @Override
+  public Set<String> getPropertyNames() {
+    return getJournal().getAll().keySet();
+  }
+
+  @Override
+  public Map<String, String> getProperties() {
+    return new HashMap<String, String>(getJournal().getAll());
+  }
+
+  @Override
+  public String getValue(String key) {
+    return getJournal().get(key);
+  }
+
+  @Override
+  public String getName() {
+    return "Override Config Source";
+  }
+}
@@ -0,0 +1,311 @@
+/*******************************************************************************
+ * Copyright (c) 2026 IBM Corporation and others.
+ * All rights reserved. This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License v1.0
+ * which accompanies this distribution, and is available at
+ * http://www.eclipse.org/legal/epl-v10.html
+ *
+ * Contributors:
+ *     IBM Corporation - Initial implementation
+ *******************************************************************************/
+
+package io.openliberty.sample.config;
+
+import jakarta.json.Json;
+import jakarta.json.JsonObject;
+import jakarta.json.JsonReader;
+
+import java.io.BufferedReader;
+import java.io.Closeable;
+import java.io.IOException;
+import java.io.InterruptedIOException;
+import java.io.StringReader;
+import java.nio.ByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardCopyOption;
+import java.nio.file.StandardOpenOption;
+import java.util.Collections;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.logging.Level;
+import java.util.logging.Logger;
+
+/**
+ * Holds the runtime config overrides and persists every change to an
+ * append-only journal of JSON lines.
+ *
+ * Writers append under a lock and then wait for a background thread to
+ * fsync the journal, so concurrent changes share a single fsync. The journal
+ * is rewritten as a snapshot of the live overrides once it holds more than
+ * {@code compactThreshold} records and twice as many records as live keys.
+ * A change is visible to readers as soon as it is appended; the call that
+ * made it returns only once it is durable, and throws an IOException if the
+ * sync fails. The change then stays applied in memory but may be lost on restart.
+ */
+public class OverrideJournal implements Closeable {
+
+  private static final Logger LOGGER = Logger.getLogger(OverrideJournal.class.getName());
+
+  private static final long COMPACT_CHECK_MILLIS = 60_000;
+
+  private final Path file;
+  private final int compactThreshold;
+  private final Map<String, String> overrides = new ConcurrentHashMap<String, String>();
+
+  private final Object lock = new Object();
+  private FileChannel channel;
+  private long records;
+  private long appended;
+  private long durable;
+  private long failedThrough;
+  private IOException failure;
+  private boolean closed;
+  private Thread flusher;
+
+  /**
+   * Creates a journal backed by {@code file}, or an in-memory only store when
+   * {@code file} is null.
+   */
+  public OverrideJournal(Path file, int compactThreshold) {
+    this.file = file;
+    this.compactThreshold = compactThreshold;
+  }
+
+  /**
+   * Replays the journal into memory and starts the fsync thread.
+   */
+  public void open() throws IOException {
+    if (file == null) {
+      return;
+    }
+    Path parent = file.toAbsolutePath().getParent();
+    if (parent != null) {
+      Files.createDirectories(parent);
+    }
+    if (Files.exists(file)) {
+      replay();
+    }
+    terminateTornRecord();
+    channel = FileChannel.open(file, StandardOpenOption.CREATE, StandardOpenOption.WRITE,
+        StandardOpenOption.APPEND);
+    flusher = new Thread(this::runFlusher, "config-override-journal");
+    flusher.setDaemon(true);
+    flusher.start();
+  }
+
+  public String get(String key) {
+    return overrides.get(key);
+  }
+
+  public Map<String, String> getAll() {
+    return Collections.unmodifiableMap(overrides);
+  }
+
+  public void set(String key, String value) throws IOException {
+    String line = Json.createObjectBuilder().add("op", "set").add("key", key).add("value", value)
+        .build().toString();
+    awaitDurable(append(line, key, value));
+  }
+
+  public void clear(String key) throws IOException {
+    String line = Json.createObjectBuilder().add("op", "clear").add("key", key).build().toString();
+    awaitDurable(append(line, key, null));
+  }
+
+  @Override
+  public void close() throws IOException {
+    synchronized (lock) {
+      if (closed) {
+        return;
+      }
+      closed = true;
+      lock.notifyAll();
+    }
+    if (flusher != null) {
+      try {
+        flusher.join();
+      } catch (InterruptedException e) {
+        Thread.currentThread().interrupt();
+      }
+      channel.force(false);
+      channel.close();
+    }
+  }
+
+  private long append(String line, String key, String value) throws IOException {
+    synchronized (lock) {
+      if (closed) {
+        throw new IOException("Override journal is closed");
+      }
+      if (channel != null) {
+        ByteBuffer bytes = ByteBuffer.wrap((line + "\n").getBytes(StandardCharsets.UTF_8));
+        while (bytes.hasRemaining()) {
+          channel.write(bytes);
+        }
+        records++;
+      }
+      if (value == null) {
+        overrides.remove(key);
+      } else {
+        overrides.put(key, value);
+      }
+      appended++;
+      lock.notifyAll();
+      return appended;
+    }
+  }
+
+  private void awaitDurable(long seq) throws IOException {
+    if (channel == null) {
+      return;
+    }
+    synchronized (lock) {
+      while (durable < seq) {
+        if (failedThrough >= seq) {
+          throw new IOException("Unable to sync config override journal " + file, failure);
+        }
+        if (closed && flusher != null && !flusher.isAlive()) {
+          throw new IOException("Override journal closed before the change was synced");
+        }
+        try {
+          lock.wait();
+        } catch (InterruptedException e) {
+          Thread.currentThread().interrupt();
+          throw new InterruptedIOException("Interrupted while waiting for the override journal");
+        }
+      }
+    }
+  }
+
+  private void runFlusher() {
+    while (true) {
+      long target;
+      synchronized (lock) {
+        if (durable == appended && !closed) {
+          try {
+            lock.wait(COMPACT_CHECK_MILLIS);
+          } catch (InterruptedException e) {
+            return;
+          }
+        }
+        if (closed && durable == appended) {
+          return;
+        }
+        target = appended;
+      }
+      try {
+        // Changes appended while this force runs are picked up by the next one.
+        channel.force(false);
+      } catch (IOException e) {
+        LOGGER.log(Level.SEVERE, "Unable to sync config override journal " + file, e);
+        synchronized (lock) {
+          // Fail the callers waiting on this sync; later changes get a new attempt.
+          failedThrough = target;
+          failure = e;
+          lock.notifyAll();
+          if (closed) {
+            return;
+          }
+          try {
+            lock.wait(1000);
+          } catch (InterruptedException ie) {
+            return;
+          }
+        }
+        continue;
+      }
+      synchronized (lock) {
+        durable = target;
+        lock.notifyAll();
+        if (records > compactThreshold && records > 2L * overrides.size()) {
+          try {
+            compact();
+          } catch (IOException e) {
+            LOGGER.log(Level.WARNING, "Unable to compact config override journal " + file, e);
+          }
+        }
+      }
+    }
+  }
+
+  /**
+   * Rewrites the journal as one record per live override. Called with the lock held.
+   */
+  private void compact() throws IOException {
+    Path tmp = file.resolveSibling(file.getFileName() + ".tmp");
+    StringBuilder sb = new StringBuilder();
+    for (Map.Entry<String, String> entry : overrides.entrySet()) {
+      sb.append(Json.createObjectBuilder().add("op", "set").add("key", entry.getKey())
+          .add("value", entry.getValue()).build().toString()).append('\n');
+    }
+    try (FileChannel out = FileChannel.open(tmp, StandardOpenOption.CREATE, StandardOpenOption.WRITE,
+        StandardOpenOption.TRUNCATE_EXISTING)) {
+      ByteBuffer bytes = ByteBuffer.wrap(sb.toString().getBytes(StandardCharsets.UTF_8));
+      while (bytes.hasRemaining()) {
+        out.write(bytes);
+      }
+      out.force(false);
+    }
+    Files.move(tmp, file, StandardCopyOption.REPLACE_EXISTING, StandardCopyOption.ATOMIC_MOVE);
+    channel.close();
+    channel = FileChannel.open(file, StandardOpenOption.WRITE, StandardOpenOption.APPEND);
+    records = overrides.size();
+  }
+
+  /**
+   * Ends a torn final record with a newline so the next append starts on its own line.
+   */
+  private void terminateTornRecord() throws IOException {
+    // A channel cannot both read and append, so the check uses its own.
+    try (FileChannel check = FileChannel.open(file, StandardOpenOption.CREATE, StandardOpenOption.READ,
+        StandardOpenOption.WRITE)) {
+      long size = check.size();
+      if (size == 0) {
+        return;
+      }
+      ByteBuffer last = ByteBuffer.allocate(1);
+      check.read(last, size - 1);
+      if (last.get(0) != '\n') {
+        check.write(ByteBuffer.wrap(new byte[] { '\n' }), size);
+        check.force(false);
+      }
+    }
+  }
+
+  private void replay() throws IOException {
+    try (BufferedReader reader = Files.newBufferedReader(file, StandardCharsets.UTF_8)) {
+      String line;
+      while ((line = reader.readLine()) != null) {
+        if (line.isEmpty()) {
+          continue;
+        }
+        String op;
+        String key;
+        String value;
+        try (JsonReader jsonReader = Json.createReader(new StringReader(line))) {
+          JsonObject record = jsonReader.readObject();
+          op = record.getString("op");
+          key = record.getString("key");
+          value = "set".equals(op) ? record.getString("value") : null;
+        } catch (RuntimeException e) {
+          // A torn final record from a crash mid-append was never acknowledged, and a
+          // record with missing or mistyped fields was not written by this class.
+          LOGGER.warning("Ignoring unreadable config override journal record: " + line);
+          continue;
+        }
+        if (value != null) {
+          overrides.put(key, value);
+        } else if ("clear".equals(op)) {
+          overrides.remove(key);
+        } else {
+          LOGGER.warning("Ignoring unreadable config override journal record: " + line);
+          continue;
+        }
+        records++;
+      }
+    }
+  }
+}
@@ -0,0 +1,28 @@
+/*******************************************************************************
+ * Copyright (c) 2026 IBM Corporation and others.
+ * All rights reserved. This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License v1.0
+ * which accompanies this distribution, and is available at
+ * http://www.eclipse.org/legal/epl-v10.html
+ *
+ * Contributors:
+ *     IBM Corporation - Initial implementation
+ *******************************************************************************/
+
+package io.openliberty.sample.config;
+
+import jakarta.enterprise.context.ApplicationScoped;
+import jakarta.enterprise.context.BeforeDestroyed;
+import jakarta.enterprise.event.Observes;
+
+/**
+ * Closes the config override journal when the application stops, so an
+ * application restart does not leave the old fsync thread and file open.
+ */
+@ApplicationScoped
+public class OverrideJournalLifecycle {
+
+  void onShutdown(@Observes @BeforeDestroyed(ApplicationScoped.class) Object event) {
+    OverrideConfigSource.closeJournal();
+  }
+}
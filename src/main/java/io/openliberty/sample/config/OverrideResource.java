@@ -0,0 +1,92 @@
+/*******************************************************************************
+ * Copyright (c) 2026 IBM Corporation and others.
+ * All rights reserved. This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License v1.0
+ * which accompanies this distribution, and is available at
+ * http://www.eclipse.org/legal/epl-v10.html
+ *
+ * Contributors:
+ *     IBM Corporation - Initial implementation
+ *******************************************************************************/
+
+package io.openliberty.sample.config;
+
+import java.io.IOException;
+import java.util.Map;
+
+import jakarta.annotation.security.RolesAllowed;
+import jakarta.enterprise.context.RequestScoped;
+import jakarta.enterprise.event.Event;
+import jakarta.inject.Inject;
+import jakarta.json.Json;
+import jakarta.json.JsonObject;
+import jakarta.json.JsonObjectBuilder;
+import jakarta.ws.rs.Consumes;
+import jakarta.ws.rs.DELETE;
+import jakarta.ws.rs.GET;
+import jakarta.ws.rs.PUT;
+import jakarta.ws.rs.Path;
+import jakarta.ws.rs.PathParam;
+import jakarta.ws.rs.Produces;
+import jakarta.ws.rs.core.MediaType;
+import jakarta.ws.rs.core.Response;
+
+/**
+ * Admin API for setting and clearing config overrides at runtime. Changes are
+ * served by {@link OverrideConfigSource} and take effect as soon as the call returns.
+ * A change that cannot be persisted returns 500 but stays in effect until restart.
+ */
+@RequestScoped
+@Path("/admin/overrides")
+@RolesAllowed("admin")
+public class OverrideResource {
+
+  @Inject
+  Event<ConfigChangedEvent> configChanged;
+
+  @GET
+  @Produces(MediaType.APPLICATION_JSON)
+  public JsonObject getOverrides() {
+    JsonObjectBuilder builder = Json.createObjectBuilder();
+    for (Map.Entry<String, String> entry : OverrideConfigSource.getJournal().getAll().entrySet()) {
+      builder.add(entry.getKey(), entry.getValue());
+    }
+    return builder.build();
+  }
+
+  @PUT
+  @Path("{name}")
+  @Consumes(MediaType.TEXT_PLAIN)
+  public Response setOverride(@PathParam("name") String name, String value) {
+    if (value == null) {
+      return Response.status(Response.Status.BAD_REQUEST).entity("ERROR: A value is required.").build();
+    }
+    try {
+      OverrideConfigSource.getJournal().set(name, value);
+      return Response.noContent().build();
+    } catch (IOException e) {
+      return persistFailed(name);
+    } finally {
+      // A change that could not be synced is still live, so caches must see it too.
+      configChanged.fire(new ConfigChangedEvent(name));
+    }
+  }
+
+  @DELETE
+  @Path("{name}")
+  public Response clearOverride(@PathParam("name") String name) {
+    try {
+      OverrideConfigSource.getJournal().clear(name);
+      return Response.noContent().build();
+    } catch (IOException e) {
+      return persistFailed(name);
+    } finally {
+      configChanged.fire(new ConfigChangedEvent(name));
+    }
+  }
+
+  private static Response persistFailed(String name) {
+    String message = String.format("ERROR: Could not persist the override, it may apply until the server restarts. [%s]", name);
+    return Response.status(Response.Status.INTERNAL_SERVER_ERROR).entity(message).build();
+  }
+}
@@ -0,0 +1,86 @@
+/*******************************************************************************
+ * Copyright (c) 2026 IBM Corporation and others.
+ * All rights reserved. This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License v1.0
+ * which accompanies this distribution, and is available at
+ * http://www.eclipse.org/legal/epl-v10.html
+ *
+ * Contributors:
+ *     IBM Corporation - Initial implementation
+ *******************************************************************************/
+
+package io.openliberty.sample.fault;
+
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.logging.Level;
+import java.util.logging.Logger;
+
+import jakarta.ws.rs.Path;
+import jakarta.ws.rs.container.DynamicFeature;
+import jakarta.ws.rs.container.ResourceInfo;
+import jakarta.ws.rs.core.FeatureContext;
+import jakarta.ws.rs.ext.Provider;
+
+import org.eclipse.microprofile.config.Config;
+import org.eclipse.microprofile.config.ConfigProvider;
+
+/**
+ * Registers a {@link FaultInjectionFilter} on the resource methods of every
+ * endpoint with faults configured, when {@code io_openliberty_sample_fault_enabled}
+ * is true. The configuration is read when the application starts; when fault
+ * injection is disabled no filter is registered and requests are unaffected.
+ *
+ * An endpoint is named by its resource class path with slashes replaced by
+ * underscores, for example {@code properties} or {@code admin_overrides}.
+ */
+@Provider
+public class FaultInjectionFeature implements DynamicFeature {
+
+    private static final Logger LOGGER = Logger.getLogger(FaultInjectionFeature.class.getName());
+
+    private final Map<String, FaultInjectionFilter> filters = new ConcurrentHashMap<String, FaultInjectionFilter>();
+    /** Endpoints whose settings were rejected, so the error is logged once per endpoint. */
+    private final Set<String> invalid = ConcurrentHashMap.newKeySet();
+
+    @Override
+    public void configure(ResourceInfo resourceInfo, FeatureContext context) {
+        Config config = ConfigProvider.getConfig();
+        if (!config.getOptionalValue(FaultSpec.PREFIX + "enabled", Boolean.class).orElse(false)) {
+            return;
+        }
+        Path path = resourceInfo.getResourceClass().getAnnotation(Path.class);
+        if (path == null) {
+            return;
+        }
+        String endpoint = endpointName(path.value());
+        if (invalid.contains(endpoint)) {
+            return;
+        }
+        FaultSpec spec;
+        try {
+            spec = FaultSpec.fromConfig(config, endpoint);
+        } catch (RuntimeException e) {
+            // A bad setting must not stop the application from deploying.
+            if (invalid.add(endpoint)) {
+                LOGGER.log(Level.SEVERE, "Fault injection is disabled for endpoint " + endpoint
+                        + " because its settings are invalid: " + e.getMessage(), e);
+            }
+            return;
+        }
+        if (spec == null) {
+            return;
+        }
+        FaultInjectionFilter filter = filters.computeIfAbsent(endpoint, e -> {
+            LOGGER.warning("Fault injection is enabled for endpoint " + e);
+            return new FaultInjectionFilter(spec);
+        });
+        context.register(filter);
+    }
+
+    static String endpointName(String path) {
+        String trimmed = path.replaceAll("^/+|/+$", "");
+        return trimmed.replace('/', '_');
+    }
+}
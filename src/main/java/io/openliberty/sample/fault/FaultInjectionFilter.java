@@ -0,0 +1,53 @@
+/*******************************************************************************
+ * Copyright (c) 2026 IBM Corporation and others.
+ * All rights reserved. This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License v1.0
+ * which accompanies this distribution, and is available at
+ * http://www.eclipse.org/legal/epl-v10.html
+ *
+ * Contributors:
+ *     IBM Corporation - Initial implementation
+ *******************************************************************************/
+
+package io.openliberty.sample.fault;
+
+import java.util.concurrent.ThreadLocalRandom;
+
+import jakarta.ws.rs.container.ContainerRequestContext;
+import jakarta.ws.rs.container.ContainerRequestFilter;
+import jakarta.ws.rs.core.MediaType;
+import jakarta.ws.rs.core.Response;
+
+/**
+ * Delays and fails requests to one endpoint as described by its {@link FaultSpec}.
+ * Registered per resource method by {@link FaultInjectionFeature}.
+ */
+public class FaultInjectionFilter implements ContainerRequestFilter {
+
+    private final FaultSpec spec;
+
+    public FaultInjectionFilter(FaultSpec spec) {
+        this.spec = spec;
+    }
+
+    @Override
+    public void filter(ContainerRequestContext requestContext) {
+        ThreadLocalRandom random = ThreadLocalRandom.current();
+        if (spec.getLatency() != null) {
+            long millis = spec.getLatency().sampleMillis(random);
+            if (millis > 0) {
+                try {
+                    Thread.sleep(millis);
+                } catch (InterruptedException e) {
+                    Thread.currentThread().interrupt();
+                }
+            }
+        }
+        if (spec.getErrorRate() > 0 && random.nextDouble() < spec.getErrorRate()) {
+            requestContext.abortWith(Response.status(spec.getErrorStatus())
+                    .type(MediaType.TEXT_PLAIN)
+                    .entity("ERROR: Injected fault.")
+                    .build());
+        }
+    }
+}
@@ -0,0 +1,70 @@
+/*******************************************************************************
+ * Copyright (c) 2026 IBM Corporation and others.
+ * All rights reserved. This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License v1.0
+ * which accompanies this distribution, and is available at
+ * http://www.eclipse.org/legal/epl-v10.html
+ *
+ * Contributors:
+ *     IBM Corporation - Initial implementation
+ *******************************************************************************/
+
+package io.openliberty.sample.fault;
+
+import java.util.Optional;
+
+import org.eclipse.microprofile.config.Config;
+
+/**
+ * The faults injected into one endpoint, read from
+ * {@code io_openliberty_sample_fault_<endpoint>_latency},
+ * {@code io_openliberty_sample_fault_<endpoint>_errorRate} and
+ * {@code io_openliberty_sample_fault_<endpoint>_errorStatus}.
+ */
+public class FaultSpec {
+
+    static final String PREFIX = "io_openliberty_sample_fault_";
+
+    private final LatencyDistribution latency;
+    private final double errorRate;
+    private final int errorStatus;
+
+    public FaultSpec(LatencyDistribution latency, double errorRate, int errorStatus) {
+        if (errorRate < 0 || errorRate > 1) {
+            throw new IllegalArgumentException("errorRate must be between 0 and 1: " + errorRate);
+        }
+        if (errorStatus < 400 || errorStatus > 599) {
+            throw new IllegalArgumentException("errorStatus must be an HTTP error status (400-599): " + errorStatus);
+        }
+        this.latency = latency;
+        this.errorRate = errorRate;
+        this.errorStatus = errorStatus;
+    }
+
+    /**
+     * @return the faults configured for {@code endpoint}, or null if there are none
+     * @throws IllegalArgumentException if a setting is invalid
+     */
+    public static FaultSpec fromConfig(Config config, String endpoint) {
+        String prefix = PREFIX + endpoint + "_";
+        Optional<String> latency = config.getOptionalValue(prefix + "latency", String.class);
+        double errorRate = config.getOptionalValue(prefix + "errorRate", Double.class).orElse(0.0);
+        int errorStatus = config.getOptionalValue(prefix + "errorStatus", Integer.class).orElse(503);
+        if (!latency.isPresent() && errorRate == 0) {
+            return null;
+        }
+        return new FaultSpec(latency.map(LatencyDistribution::parse).orElse(null), errorRate, errorStatus);
+    }
+
+    public LatencyDistribution getLatency() {
+        return latency;
+    }
+
+    public double getErrorRate() {
+        return errorRate;
+    }
+
+    public int getErrorStatus() {
+        return errorStatus;
+    }
+}
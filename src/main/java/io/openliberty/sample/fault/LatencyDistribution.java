@@ -0,0 +1,123 @@
+/*******************************************************************************
+ * Copyright (c) 2026 IBM Corporation and others.
+ * All rights reserved. This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License v1.0
+ * which accompanies this distribution, and is available at
+ * http://www.eclipse.org/legal/epl-v10.html
+ *
+ * Contributors:
+ *     IBM Corporation - Initial implementation
+ *******************************************************************************/
+
+package io.openliberty.sample.fault;
+
+import java.util.Random;
+
+/**
+ * A distribution of injected latencies, in milliseconds. Parsed from one of
+ * <ul>
+ * <li>{@code fixed:<millis>}</li>
+ * <li>{@code uniform:<minMillis>,<maxMillis>}</li>
+ * <li>{@code lognormal:<medianMillis>,<sigma>[,<maxMillis>]}</li>
+ * </ul>
+ * A lognormal distribution with a sigma around 0.5 to 1 gives the long tail
+ * typical of production latencies. Its samples are capped at {@code maxMillis},
+ * by default {@value LogNormal#DEFAULT_MAX_MILLIS}, so a large sigma cannot hold
+ * a request thread for minutes.
+ */
+public abstract class LatencyDistribution {
+
+    public abstract long sampleMillis(Random random);
+
+    public static LatencyDistribution parse(String spec) {
+        int colon = spec.indexOf(':');
+        if (colon < 0) {
+            throw new IllegalArgumentException("Latency must be <type>:<parameters>: " + spec);
+        }
+        String type = spec.substring(0, colon).trim();
+        String[] params = spec.substring(colon + 1).split(",");
+        switch (type) {
+        case "fixed":
+            return new Fixed(parseParam(spec, params, 0, 1));
+        case "uniform":
+            return new Uniform(parseParam(spec, params, 0, 2), parseParam(spec, params, 1, 2));
+        case "lognormal":
+            return new LogNormal(parseParam(spec, params, 0, 2, 3), parseParam(spec, params, 1, 2, 3),
+                    params.length > 2 ? parseParam(spec, params, 2, 2, 3) : LogNormal.DEFAULT_MAX_MILLIS);
+        default:
+            throw new IllegalArgumentException("Unknown latency distribution: " + spec);
+        }
+    }
+
+    private static double parseParam(String spec, String[] params, int index, int expected) {
+        return parseParam(spec, params, index, expected, expected);
+    }
+
+    private static double parseParam(String spec, String[] params, int index, int minExpected, int maxExpected) {
+        if (params.length < minExpected || params.length > maxExpected) {
+            String expected = minExpected == maxExpected ? String.valueOf(minExpected) : minExpected + " or " + maxExpected;
+            throw new IllegalArgumentException("Expected " + expected + " parameters: " + spec);
+        }
+        double value = Double.parseDouble(params[index].trim());
+        if (value < 0) {
+            throw new IllegalArgumentException("Parameters must not be negative: " + spec);
+        }
+        return value;
+    }
+
+    static final class Fixed extends LatencyDistribution {
+        private final long millis;
+
+        Fixed(double millis) {
+            this.millis = Math.round(millis);
+        }
+
+        @Override
+        public long sampleMillis(Random random) {
+            return millis;
+        }
+    }
+
+    static final class Uniform extends LatencyDistribution {
+        private final double min;
+        private final double max;
+
+        Uniform(double min, double max) {
+            if (max < min) {
+                throw new IllegalArgumentException("uniform max " + max + " is less than min " + min);
+            }
+            this.min = min;
+            this.max = max;
+        }
+
+        @Override
+        public long sampleMillis(Random random) {
+            return Math.round(min + random.nextDouble() * (max - min));
+        }
+    }
+
+    static final class LogNormal extends LatencyDistribution {
+        static final long DEFAULT_MAX_MILLIS = 30000;
+
+        private final double mu;
+        private final double sigma;
+        private final long maxMillis;
+
+        LogNormal(double median, double sigma, double maxMillis) {
+            if (median <= 0) {
+                throw new IllegalArgumentException("lognormal median must be positive: " + median);
+            }
+            if (maxMillis < median) {
+                throw new IllegalArgumentException("lognormal max " + maxMillis + " is less than median " + median);
+            }
+            this.mu = Math.log(median);
+            this.sigma = sigma;
+            this.maxMillis = Math.round(maxMillis);
+        }
+
+        @Override
+        public long sampleMillis(Random random) {
+            return Math.min(maxMillis, Math.round(Math.exp(mu + sigma * random.nextGaussian())));
+        }
+    }
+}
@@ -0,0 +1,92 @@
+/*******************************************************************************
+ * Copyright (c) 2026 IBM Corporation and others.
+ * All rights reserved. This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License v1.0
+ * which accompanies this distribution, and is available at
+ * http://www.eclipse.org/legal/epl-v10.html
+ *
+ * Contributors:
+ *     IBM Corporation - Initial implementation
+ *******************************************************************************/
+
+package io.openliberty.sample.metrics;
+
+import java.util.ArrayList;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+
+import jakarta.enterprise.context.RequestScoped;
+import jakarta.inject.Inject;
+import jakarta.json.Json;
+import jakarta.json.JsonArray;
+import jakarta.json.JsonObjectBuilder;
+import jakarta.ws.rs.GET;
+import jakarta.ws.rs.Path;
+import jakarta.ws.rs.Produces;
+import jakarta.ws.rs.QueryParam;
+import jakarta.ws.rs.core.MediaType;
+import jakarta.ws.rs.core.Response;
+
+/**
+ * Returns selected metrics as compact JSON, for example
+ * {@code /system/metrics?scope=base&names=memory.usedHeap,cpu.processCpuLoad}.
+ * Both parameters take comma separated lists; without {@code names} every
+ * metric of the selected scopes is returned, and without {@code scope} every
+ * scope is searched. Values come from a snapshot that is at most
+ * {@code io_openliberty_sample_metrics_snapshotIntervalMillis} old.
+ */
+@RequestScoped
+@Path("/metrics")
+public class MetricsResource {
+
+    @Inject
+    MetricsSnapshots snapshots;
+
+    @GET
+    @Produces(MediaType.APPLICATION_JSON)
+    public Response getMetrics(@QueryParam("names") String names, @QueryParam("scope") String scope) {
+        List<String> scopes = new ArrayList<String>();
+        if (scope == null || scope.isEmpty()) {
+            snapshots.getScopes().forEach(scopes::add);
+        } else {
+            for (String s : split(scope)) {
+                if (snapshots.get(s) == null) {
+                    String message = String.format("ERROR: Unknown metric scope. [%s]", s);
+                    return Response.status(Response.Status.BAD_REQUEST).entity(message).build();
+                }
+                scopes.add(s);
+            }
+        }
+        Set<String> selected = names == null || names.isEmpty() ? null : split(names);
+
+        JsonObjectBuilder builder = Json.createObjectBuilder();
+        for (String s : scopes) {
+            JsonObjectBuilder scopeBuilder = Json.createObjectBuilder();
+            Map<String, JsonArray> metrics = snapshots.get(s).getMetrics();
+            if (selected == null) {
+                metrics.forEach(scopeBuilder::add);
+            } else {
+                for (String name : selected) {
+                    JsonArray series = metrics.get(name);
+                    if (series != null) {
+                        scopeBuilder.add(name, series);
+                    }
+                }
+            }
+            builder.add(s, scopeBuilder);
+        }
+        return Response.ok(builder.build()).build();
+    }
+
+    private static Set<String> split(String list) {
+        Set<String> values = new LinkedHashSet<String>();
+        for (String value : list.split(",")) {
+            if (!value.trim().isEmpty()) {
+                values.add(value.trim());
+            }
+        }
+        return values;
+    }
+}
@@ -0,0 +1,159 @@
+/*******************************************************************************
+ * Copyright (c) 2026 IBM Corporation and others.
+ * All rights reserved. This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License v1.0
+ * which accompanies this distribution, and is available at
+ * http://www.eclipse.org/legal/epl-v10.html
+ *
+ * Contributors:
+ *     IBM Corporation - Initial implementation
+ *******************************************************************************/
+
+package io.openliberty.sample.metrics;
+
+import java.math.BigDecimal;
+import java.util.Collections;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicReference;
+
+import jakarta.json.Json;
+import jakarta.json.JsonArray;
+import jakarta.json.JsonArrayBuilder;
+import jakarta.json.JsonObjectBuilder;
+
+import org.eclipse.microprofile.metrics.Counter;
+import org.eclipse.microprofile.metrics.Gauge;
+import org.eclipse.microprofile.metrics.Histogram;
+import org.eclipse.microprofile.metrics.Metric;
+import org.eclipse.microprofile.metrics.MetricID;
+import org.eclipse.microprofile.metrics.MetricRegistry;
+import org.eclipse.microprofile.metrics.Snapshot;
+import org.eclipse.microprofile.metrics.Timer;
+
+import io.openliberty.sample.cache.SingleFlight;
+
+/**
+ * The rendered metrics of one registry, refreshed at most once per interval.
+ *
+ * A caller that finds the snapshot stale renders a new one; callers arriving
+ * while that is in progress wait for the same result rather than rendering
+ * their own, so the registry is rendered at most once per interval however
+ * many clients poll. A failed render is reported to every caller waiting
+ * for it and retried by the next caller.
+ */
+public class MetricsSnapshot {
+
+    private static final double NANOS_PER_SECOND = TimeUnit.SECONDS.toNanos(1);
+
+    private final MetricRegistry registry;
+    private final long intervalNanos;
+    private final AtomicReference<Rendered> current = new AtomicReference<Rendered>();
+    // There is a single snapshot, so every refresh uses the same key.
+    private final SingleFlight<Boolean, Rendered> refreshing = new SingleFlight<Boolean, Rendered>();
+
+    public MetricsSnapshot(MetricRegistry registry, long intervalMillis) {
+        this.registry = registry;
+        this.intervalNanos = TimeUnit.MILLISECONDS.toNanos(intervalMillis);
+    }
+
+    /**
+     * @return the rendered series of each metric, keyed by metric name
+     */
+    public Map<String, JsonArray> getMetrics() {
+        return get().metrics;
+    }
+
+    private Rendered get() {
+        Rendered rendered = current.get();
+        if (isFresh(rendered)) {
+            return rendered;
+        }
+        return refreshing.run(Boolean.TRUE, () -> {
+            // Another caller may have refreshed between our staleness check and this one.
+            Rendered latest = current.get();
+            if (isFresh(latest)) {
+                return latest;
+            }
+            latest = render();
+            current.set(latest);
+            return latest;
+        });
+    }
+
+    private boolean isFresh(Rendered rendered) {
+        return rendered != null && System.nanoTime() - rendered.takenNanos < intervalNanos;
+    }
+
+    private Rendered render() {
+        Map<String, JsonArrayBuilder> series = new LinkedHashMap<String, JsonArrayBuilder>();
+        for (Map.Entry<MetricID, Metric> entry : registry.getMetrics().entrySet()) {
+            JsonObjectBuilder builder = Json.createObjectBuilder();
+            Map<String, String> tags = entry.getKey().getTags();
+            if (!tags.isEmpty()) {
+                JsonObjectBuilder tagsBuilder = Json.createObjectBuilder();
+                tags.forEach(tagsBuilder::add);
+                builder.add("tags", tagsBuilder);
+            }
+            if (addValues(builder, entry.getValue())) {
+                series.computeIfAbsent(entry.getKey().getName(), n -> Json.createArrayBuilder()).add(builder);
+            }
+        }
+        Map<String, JsonArray> metrics = new LinkedHashMap<String, JsonArray>();
+        series.forEach((name, builder) -> metrics.put(name, builder.build()));
+        return new Rendered(System.nanoTime(), Collections.unmodifiableMap(metrics));
+    }
+
+    /**
+     * Adds the values of {@code metric}; timer values are in seconds.
+     *
+     * @return false if the metric type is not supported
+     */
+    private static boolean addValues(JsonObjectBuilder builder, Metric metric) {
+        if (metric instanceof Counter) {
+            builder.add("count", ((Counter) metric).getCount());
+        } else if (metric instanceof Gauge) {
+            Object value = ((Gauge<?>) metric).getValue();
+            if (value instanceof Long || value instanceof Integer) {
+                builder.add("value", ((Number) value).longValue());
+            } else if (value instanceof Number && Double.isFinite(((Number) value).doubleValue())) {
+                builder.add("value", new BigDecimal(value.toString()));
+            } else {
+                builder.addNull("value");
+            }
+        } else if (metric instanceof Timer) {
+            Timer timer = (Timer) metric;
+            builder.add("count", timer.getCount())
+                   .add("sum", timer.getElapsedTime().toNanos() / NANOS_PER_SECOND);
+            addSnapshot(builder, timer.getSnapshot(), NANOS_PER_SECOND);
+        } else if (metric instanceof Histogram) {
+            Histogram histogram = (Histogram) metric;
+            builder.add("count", histogram.getCount())
+                   .add("sum", histogram.getSum());
+            addSnapshot(builder, histogram.getSnapshot(), 1);
+        } else {
+            return false;
+        }
+        return true;
+    }
+
+    private static void addSnapshot(JsonObjectBuilder builder, Snapshot snapshot, double divisor) {
+        builder.add("max", snapshot.getMax() / divisor);
+        JsonObjectBuilder quantiles = Json.createObjectBuilder();
+        for (Snapshot.PercentileValue percentile : snapshot.percentileValues()) {
+            quantiles.add(String.valueOf(percentile.getPercentile()), percentile.getValue() / divisor);
+        }
+        builder.add("quantiles", quantiles);
+    }
+
+    private static final class Rendered {
+        final long takenNanos;
+        final Map<String, JsonArray> metrics;
+
+        Rendered(long takenNanos, Map<String, JsonArray> metrics) {
+            this.takenNanos = takenNanos;
+            this.metrics = metrics;
+        }
+    }
+}
@@ -0,0 +1,67 @@
+/*******************************************************************************
+ * Copyright (c) 2026 IBM Corporation and others.
+ * All rights reserved. This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License v1.0
+ * which accompanies this distribution, and is available at
+ * http://www.eclipse.org/legal/epl-v10.html
+ *
+ * Contributors:
+ *     IBM Corporation - Initial implementation
+ *******************************************************************************/
+
+package io.openliberty.sample.metrics;
+
+import java.util.LinkedHashMap;
+import java.util.Map;
+
+import jakarta.annotation.PostConstruct;
+import jakarta.enterprise.context.ApplicationScoped;
+import jakarta.inject.Inject;
+
+import org.eclipse.microprofile.config.inject.ConfigProperty;
+import org.eclipse.microprofile.metrics.MetricRegistry;
+import org.eclipse.microprofile.metrics.annotation.RegistryScope;
+
+/**
+ * Holds one {@link MetricsSnapshot} per metric registry scope, shared by all
+ * requests to {@link MetricsResource}.
+ */
+@ApplicationScoped
+public class MetricsSnapshots {
+
+    @Inject
+    @RegistryScope(scope = MetricRegistry.APPLICATION_SCOPE)
+    MetricRegistry applicationRegistry;
+
+    @Inject
+    @RegistryScope(scope = MetricRegistry.BASE_SCOPE)
+    MetricRegistry baseRegistry;
+
+    @Inject
+    @RegistryScope(scope = MetricRegistry.VENDOR_SCOPE)
+    MetricRegistry vendorRegistry;
+
+    @Inject
+    @ConfigProperty(name = "io_openliberty_sample_metrics_snapshotIntervalMillis", defaultValue = "1000")
+    long intervalMillis;
+
+    private final Map<String, MetricsSnapshot> snapshots = new LinkedHashMap<String, MetricsSnapshot>();
+
+    @PostConstruct
+    void init() {
+        snapshots.put(MetricRegistry.APPLICATION_SCOPE, new MetricsSnapshot(applicationRegistry, intervalMillis));
+        snapshots.put(MetricRegistry.BASE_SCOPE, new MetricsSnapshot(baseRegistry, intervalMillis));
+        snapshots.put(MetricRegistry.VENDOR_SCOPE, new MetricsSnapshot(vendorRegistry, intervalMillis));
+    }
+
+    /**
+     * @return the snapshot for {@code scope}, or null if there is no such scope
+     */
+    public MetricsSnapshot get(String scope) {
+        return snapshots.get(scope);
+    }
+
+    public Iterable<String> getScopes() {
+        return snapshots.keySet();
+    }
+}
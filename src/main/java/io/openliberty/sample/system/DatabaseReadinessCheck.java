@@ -11,44 +11,37 @@
 package io.openliberty.sample.system;
 
 import jakarta.enterprise.context.ApplicationScoped;
+import jakarta.inject.Inject;
+import jakarta.inject.Provider;
 
+import org.eclipse.microprofile.config.inject.ConfigProperty;
 import org.eclipse.microprofile.health.HealthCheck;
 import org.eclipse.microprofile.health.HealthCheckResponse;
 import org.eclipse.microprofile.health.Readiness;
 
 /**
- * Database readiness health check to simulate database unreachable scenario.
- * This check will cause the application instance to report as "not ready".
+ * Database readiness health check. An unreachable database can be simulated
+ * by setting io_openliberty_sample_fault_database_outage to true, which makes
+ * the application instance report as "not ready".
  */
 @Readiness
 @ApplicationScoped
 public class DatabaseReadinessCheck implements HealthCheck {
-	
+
+	@Inject
+	@ConfigProperty(name = "io_openliberty_sample_fault_database_outage", defaultValue = "false")
+	Provider<Boolean> databaseOutage;
+
 	/**
 	 * Simulates checking database connectivity.
-	 * MODIFIED: Changed to return true to prevent startup timeout.
-	 * Original behavior (return false) caused application to never report as ready.
+	 * In a real scenario, this would attempt to connect to a database.
 	 *
-	 * @return true to indicate database is reachable
+	 * @return false if a database outage is being simulated
 	 */
 	private boolean isDatabaseReachable() {
-		// COMMENTED OUT: Original code that simulated database unreachable scenario
-		// This caused the application to never report as ready, leading to startup timeout
-		// return false;
-		
-		// Modified to return true to allow application to start successfully
-		// In a real scenario, this would attempt to connect to a database
-		// For example:
-		// try {
-		//     Connection conn = dataSource.getConnection();
-		//     conn.close();
-		//     return true;
-		// } catch (SQLException e) {
-		//     return false;
-		// }
-		return true;
+		return !databaseOutage.get();
 	}
-	
+
 	@Override
 	public HealthCheckResponse call() {
 		if (!isDatabaseReachable()) {
@@ -0,0 +1,33 @@
+/*******************************************************************************
+ * Copyright (c) 2026 IBM Corporation and others.
+ * All rights reserved. This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License v1.0
+ * which accompanies this distribution, and is available at
+ * http://www.eclipse.org/legal/epl-v10.html
+ *
+ * Contributors:
+ *     IBM Corporation - Initial implementation
+ *******************************************************************************/
+
+package io.openliberty.sample.system;
+
+import jakarta.json.bind.Jsonb;
+import jakarta.json.bind.JsonbBuilder;
+import jakarta.ws.rs.ext.ContextResolver;
+import jakarta.ws.rs.ext.Provider;
+
+/**
+ * Supplies the JSON-B instance used to write responses, so the provider
+ * bootstrap can happen on the startup warm-up thread instead of on the first
+ * request, when the warm-up finishes first.
+ */
+@Provider
+public class JsonbResolver implements ContextResolver<Jsonb> {
+
+	static final LazyValue<Jsonb> JSONB = new LazyValue<Jsonb>("jsonb.bootstrap", JsonbBuilder::create);
+
+	@Override
+	public Jsonb getContext(Class<?> type) {
+		return JSONB.get();
+	}
+}
@@ -0,0 +1,77 @@
+/*******************************************************************************
+ * Copyright (c) 2026 IBM Corporation and others.
+ * All rights reserved. This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License v1.0
+ * which accompanies this distribution, and is available at
+ * http://www.eclipse.org/legal/epl-v10.html
+ *
+ * Contributors:
+ *     IBM Corporation - Initial implementation
+ *******************************************************************************/
+
+package io.openliberty.sample.system;
+
+import java.util.function.Supplier;
+
+import io.openliberty.sample.cache.SingleFlight;
+
+/**
+ * A value computed once, either in the background during startup or by the
+ * first caller that needs it. Callers arriving while it is being computed
+ * wait for that computation through a {@link SingleFlight}. A null result or
+ * a failure is returned to the callers of that attempt but not kept, so the
+ * next caller tries again. The time taken by the successful computation is
+ * recorded in the {@link StartupTimeline} under the given phase name.
+ */
+public class LazyValue<T> {
+
+	private final String phase;
+	private final Supplier<T> supplier;
+	// There is a single value, so every computation uses the same key.
+	private final SingleFlight<Boolean, T> computing = new SingleFlight<Boolean, T>();
+	private volatile T value;
+
+	public LazyValue(String phase, Supplier<T> supplier) {
+		this.phase = phase;
+		this.supplier = supplier;
+	}
+
+	/**
+	 * @throws RuntimeException or Error thrown by the computation, unwrapped
+	 */
+	public T get() {
+		T current = value;
+		if (current != null) {
+			return current;
+		}
+		return computing.run(Boolean.TRUE, this::compute);
+	}
+
+	/**
+	 * Computes the value on the calling thread unless it is already computed
+	 * or being computed by another thread. A failure is left for the next
+	 * caller of {@link #get()} to retry and report.
+	 */
+	public void initialize() {
+		try {
+			get();
+		} catch (RuntimeException | Error e) {
+			// Includes Errors such as ServiceConfigurationError from a missing provider.
+		}
+	}
+
+	private T compute() {
+		// A computation may have finished between the caller's check and this one.
+		T current = value;
+		if (current != null) {
+			return current;
+		}
+		long start = System.nanoTime();
+		T result = supplier.get();
+		if (result != null) {
+			value = result;
+			StartupTimeline.record(phase, start);
+		}
+		return result;
+	}
+}
@@ -0,0 +1,44 @@
+/*******************************************************************************
+ * Copyright (c) 2026 IBM Corporation and others.
+ * All rights reserved. This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License v1.0
+ * which accompanies this distribution, and is available at
+ * http://www.eclipse.org/legal/epl-v10.html
+ *
+ * Contributors:
+ *     IBM Corporation - Initial implementation
+ *******************************************************************************/
+
+package io.openliberty.sample.system;
+
+import java.util.logging.Logger;
+
+import jakarta.enterprise.context.ApplicationScoped;
+import jakarta.enterprise.context.Initialized;
+import jakarta.enterprise.event.Observes;
+
+/**
+ * Initializes expensive components on a background thread once the
+ * application has started, then logs the startup timeline. This only moves
+ * their cost off the first request that needs them; the readiness checks do
+ * not use them, so it does not change when the application reports ready.
+ */
+@ApplicationScoped
+public class StartupListener {
+
+	private static final Logger LOGGER = Logger.getLogger(StartupListener.class.getName());
+
+	void onStartup(@Observes @Initialized(ApplicationScoped.class) Object init) {
+		StartupTimeline.mark("application.initialized");
+		Thread warmUp = new Thread(() -> {
+			JsonbResolver.JSONB.initialize();
+			SystemRuntime.SERVER_VERSION.initialize();
+			StartupTimeline.mark("warmUp.complete");
+			LOGGER.info(StartupTimeline.format());
+		}, "startup-warm-up");
+		// JSON-B locates its provider through the context class loader.
+		warmUp.setContextClassLoader(Thread.currentThread().getContextClassLoader());
+		warmUp.setDaemon(true);
+		warmUp.start();
+	}
+}
@@ -0,0 +1,111 @@
+/*******************************************************************************
+ * Copyright (c) 2026 IBM Corporation and others.
+ * All rights reserved. This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License v1.0
+ * which accompanies this distribution, and is available at
+ * http://www.eclipse.org/legal/epl-v10.html
+ *
+ * Contributors:
+ *     IBM Corporation - Initial implementation
+ *******************************************************************************/
+
+package io.openliberty.sample.system;
+
+import java.lang.management.ManagementFactory;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+
+import jakarta.json.Json;
+import jakarta.json.JsonArrayBuilder;
+import jakarta.json.JsonObject;
+
+/**
+ * Records when startup phases happen, in microseconds since the JVM started.
+ * Only the first occurrence of each phase is kept, so callers on hot paths
+ * can record unconditionally.
+ */
+public final class StartupTimeline {
+
+	private static final long JVM_START_NANOS = System.nanoTime()
+			- ManagementFactory.getRuntimeMXBean().getUptime() * 1_000_000L;
+
+	private static final Map<String, Phase> PHASES = new ConcurrentHashMap<String, Phase>();
+
+	private StartupTimeline() {
+	}
+
+	/**
+	 * Records an instant phase happening now.
+	 */
+	public static void mark(String name) {
+		if (!PHASES.containsKey(name)) {
+			PHASES.putIfAbsent(name, new Phase(name, sinceJvmStart(System.nanoTime()), 0));
+		}
+	}
+
+	/**
+	 * Records a phase that started at {@code startNanos}, as returned by
+	 * {@link System#nanoTime()}, and ends now.
+	 */
+	public static void record(String name, long startNanos) {
+		if (!PHASES.containsKey(name)) {
+			long end = System.nanoTime();
+			PHASES.putIfAbsent(name, new Phase(name, sinceJvmStart(startNanos), (end - startNanos) / 1000));
+		}
+	}
+
+	/**
+	 * @return when {@code name} was first recorded, in microseconds since the JVM started, or null
+	 */
+	static Long getStartMicros(String name) {
+		Phase phase = PHASES.get(name);
+		return phase == null ? null : phase.startMicros;
+	}
+
+	public static JsonObject toJson() {
+		JsonArrayBuilder phases = Json.createArrayBuilder();
+		for (Phase phase : sortedPhases()) {
+			phases.add(Json.createObjectBuilder()
+					.add("name", phase.name)
+					.add("startMicros", phase.startMicros)
+					.add("durationMicros", phase.durationMicros));
+		}
+		return Json.createObjectBuilder()
+				.add("jvmStartTime", ManagementFactory.getRuntimeMXBean().getStartTime())
+				.add("phases", phases)
+				.build();
+	}
+
+	public static String format() {
+		StringBuilder sb = new StringBuilder("Startup timeline (ms since JVM start):");
+		for (Phase phase : sortedPhases()) {
+			sb.append(String.format("%n  %10.3f %-40s %10.3f ms", phase.startMicros / 1000.0, phase.name,
+					phase.durationMicros / 1000.0));
+		}
+		return sb.toString();
+	}
+
+	private static List<Phase> sortedPhases() {
+		List<Phase> phases = new ArrayList<Phase>(PHASES.values());
+		phases.sort((a, b) -> Long.compare(a.startMicros, b.startMicros));
+		return phases;
+	}
+
+	private static long sinceJvmStart(long nanos) {
+		return (nanos - JVM_START_NANOS) / 1000;
+	}
+
+	private static final class Phase {
+		final String name;
+		final long startMicros;
+		final long durationMicros;
+
+		Phase(String name, long startMicros, long durationMicros) {
+			this.name = name;
+			this.startMicros = startMicros;
+			this.durationMicros = durationMicros;
+		}
+	}
+}
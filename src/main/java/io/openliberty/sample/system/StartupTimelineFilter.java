@@ -0,0 +1,45 @@
+/*******************************************************************************
+ * Copyright (c) 2026 IBM Corporation and others.
+ * All rights reserved. This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License v1.0
+ * which accompanies this distribution, and is available at
+ * http://www.eclipse.org/legal/epl-v10.html
+ *
+ * Contributors:
+ *     IBM Corporation - Initial implementation
+ *******************************************************************************/
+
+package io.openliberty.sample.system;
+
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+
+import jakarta.ws.rs.container.ContainerRequestContext;
+import jakarta.ws.rs.container.ContainerRequestFilter;
+import jakarta.ws.rs.container.ResourceInfo;
+import jakarta.ws.rs.core.Context;
+import jakarta.ws.rs.ext.Provider;
+
+/**
+ * Marks the first request served by each resource class in the {@link StartupTimeline}.
+ */
+@Provider
+public class StartupTimelineFilter implements ContainerRequestFilter {
+
+	/** Resource classes already marked, so later requests return after one lookup. */
+	private static final Set<Class<?>> SEEN = ConcurrentHashMap.newKeySet();
+
+	@Context
+	ResourceInfo resourceInfo;
+
+	@Override
+	public void filter(ContainerRequestContext requestContext) {
+		Class<?> resourceClass = resourceInfo.getResourceClass();
+		if (resourceClass == null || SEEN.contains(resourceClass) || !SEEN.add(resourceClass)) {
+			return;
+		}
+		// Strip CDI proxy suffixes such as SystemResource$Proxy$_$$_WeldSubclass
+		String name = resourceClass.getSimpleName().split("\\$")[0];
+		StartupTimeline.mark("firstRequest." + name);
+	}
+}
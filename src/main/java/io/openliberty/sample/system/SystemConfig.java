@@ -22,26 +22,31 @@ import org.eclipse.microprofile.config.inject.ConfigProperty;
 @ApplicationScoped
 public class SystemConfig {
 
-  private volatile boolean initialized = true;
+  private volatile boolean initialized = false;
+
+  @Inject
+  @ConfigProperty(name = "io_openliberty_sample_fault_systemConfig_initDelayMillis", defaultValue = "0")
+  long initDelayMillis;
 
     @PostConstruct
     void init() {
-        // COMMENTED OUT: 60-second sleep that causes startup timeout
-        // This code simulates slow startup (e.g. DB warmup) but causes deployment failures
-        /*
-        new Thread(() -> {
-            try {
-                // Simulate slow startup (e.g. DB warmup)
-                Thread.sleep(60_000); // 60 seconds
-                initialized = true;
-            } catch (InterruptedException e) {
-                Thread.currentThread().interrupt();
-            }
-        }).start();
-        */
-        
-        // Initialization complete immediately to prevent startup timeout
-        initialized = true;
+        long start = System.nanoTime();
+        if (initDelayMillis > 0) {
+            // Simulate slow startup (e.g. DB warmup) without blocking deployment
+            Thread init = new Thread(() -> {
+                try {
+                    Thread.sleep(initDelayMillis);
+                    initialized = true;
+                } catch (InterruptedException e) {
+                    Thread.currentThread().interrupt();
+                }
+            }, "system-config-init");
+            init.setDaemon(true);
+            init.start();
+        } else {
+            initialized = true;
+        }
+        StartupTimeline.record("cdi.SystemConfig", start);
     }
 
     public boolean isInitialized() {
@@ -25,7 +25,7 @@ public class SystemHealth implements HealthCheck {
 	SystemConfig systemConfig;
 	
 	public boolean isHealthy() {
-	    if (systemConfig.isInMaintenance()) {
+	    if (!systemConfig.isInitialized() || systemConfig.isInMaintenance()) {
 	      return false;
 	    }
 	     return true;
@@ -15,6 +15,7 @@ import java.lang.management.ManagementFactory;
 
 import jakarta.enterprise.context.RequestScoped;
 
+import jakarta.json.JsonObject;
 import jakarta.ws.rs.GET;
 import jakarta.ws.rs.core.Response;
 import jakarta.ws.rs.core.MediaType;
@@ -29,6 +30,12 @@ import javax.management.MBeanServer;
 @RequestScoped
 @Path("/runtime")
 public class SystemRuntime {
+
+	// The MBean lookup is done in the background during startup or on first use,
+	// and retried on later requests until it returns a version.
+	static final LazyValue<String> SERVER_VERSION = new LazyValue<String>("mbean.serverVersion",
+			SystemRuntime::lookupServerVersion);
+
 	@GET
 	@Produces(MediaType.TEXT_PLAIN)
 	public Response getRuntime() {
@@ -36,7 +43,18 @@ public class SystemRuntime {
 		return Response.ok(libertyVersion).build();
 	}
 
+	@GET
+	@Path("/startup")
+	@Produces(MediaType.APPLICATION_JSON)
+	public JsonObject getStartup() {
+		return StartupTimeline.toJson();
+	}
+
 	String getServerVersion() {
+		return SERVER_VERSION.get();
+	}
+
+	static String lookupServerVersion() {
         String version = null;
         try {
             MBeanServer mbs = ManagementFactory.getPlatformMBeanServer();
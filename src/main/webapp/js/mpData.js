@@ -35,26 +35,31 @@ function displayMetrics() {
 }
 
 function getSystemMetrics() {
-    var url = location.origin + "/metrics";
+    var SRgetPropertiesTime = "io.openliberty.sample.system.SystemResource.getPropertiesTime";
+    var metricToDisplay = [
+        { scope: "application", name: "getProperties", label: "Request Count",
+            value: function (series) { return series.count; } },
+        { scope: "application", name: SRgetPropertiesTime, label: "Request Time (ms) at Quantile 0.999",
+            value: function (series) { return series.quantiles["0.999"] * 1000; } },
+        { scope: "application", name: SRgetPropertiesTime, label: "Request Time (ms) at Quantile 0.5",
+            value: function (series) { return series.quantiles["0.5"] * 1000; } },
+        { scope: "application", name: SRgetPropertiesTime, label: "Max Request Time (ms)",
+            value: function (series) { return series.max * 1000; } },
+        { scope: "base", name: "cpu.processCpuLoad", label: "System CPU Usage (%)",
+            value: function (series) { return series.value; } },
+        { scope: "base", name: "memory.usedHeap", label: "System Heap Usage (MB)",
+            value: function (series) { return series.value / 1000000; } }
+    ];
+
+    var names = [];
+    metricToDisplay.forEach(function (metric) {
+        if (names.indexOf(metric.name) === -1) {
+            names.push(metric.name);
+        }
+    });
+    var url = location.origin + "/system/metrics?scope=application,base&names=" + encodeURIComponent(names.join(","));
     var req = new XMLHttpRequest();
 
-    var metricToDisplay = {};
-    var SRgetPropertiesTime = "io_openliberty_sample_system_SystemResource_getPropertiesTime";
-    metricToDisplay["getProperties_total{mp_scope=\"application\",}"] = "Request Count";
-    metricToDisplay[SRgetPropertiesTime + "_seconds{mp_scope=\"application\",quantile=\"0.999\",}"] = "Request Time (ms) at Quantile 0.999";
-    metricToDisplay[SRgetPropertiesTime + "_seconds{mp_scope=\"application\",quantile=\"0.5\",}"] = "Request Time (ms) at Quantile 0.5";
-    metricToDisplay[SRgetPropertiesTime + "_seconds_max{mp_scope=\"application\",}"] = "Max Request Time (ms)";
-    metricToDisplay["cpu_processCpuLoad_percent{mp_scope=\"base\",}"] = "System CPU Usage (%)";
-    metricToDisplay["memory_usedHeap_bytes{mp_scope=\"base\",}"] = "System Heap Usage (MB)";
-
-    var metricToMatch = "^(";
-    for (var metricKey in metricToDisplay) {
-        metricToMatch += metricKey + "|"
-    }
-    // remove the last |
-    metricToMatch = metricToMatch.substring(0, metricToMatch.length - 1);
-    metricToMatch += ")\\s*(\\S*)$"
-
     req.onreadystatechange = function () {
         if (req.readyState != 4) return; // Not there yet
         if (req.status != 200) {
@@ -62,26 +67,14 @@ function getSystemMetrics() {
             return;
         }
 
-        var resp = req.responseText;
-        var regexpToMatch = new RegExp(metricToMatch, "gm");
-        var matchMetrics = resp.match(regexpToMatch);
-
+        var resp = JSON.parse(req.responseText);
         var keyValPairs = {};
-        for (var metricKey in metricToDisplay) {
-            matchMetrics.forEach(function (line) {
-                var keyToMatch = metricKey + " (.*)";
-                var keyVal = line.match(new RegExp(keyToMatch));
-                if (keyVal) {
-                    var val = keyVal[1];
-                    if (metricKey.indexOf(SRgetPropertiesTime) === 0) {
-                        val = val * 1000;
-                    } else if (metricKey.indexOf("base_memory_usedHeap_bytes") === 0) {
-                        val = val / 1000000;
-                    }
-                    keyValPairs[metricToDisplay[metricKey]] = val;
-                }
-            })
-        }
+        metricToDisplay.forEach(function (metric) {
+            var series = resp[metric.scope] && resp[metric.scope][metric.name];
+            if (series && series.length > 0) {
+                keyValPairs[metric.label] = metric.value(series[0]);
+            }
+        });
 
         var table = document.getElementById("metricsTableBody");
         for (key in keyValPairs) {
@@ -95,7 +88,7 @@ function getSystemMetrics() {
             table.appendChild(row);
         }
 
-        addSourceRow(table, location.origin + "/metrics");
+        addSourceRow(table, location.origin + "/system/metrics");
     };
 
     req.open("GET", url, true);
@@ -0,0 +1,14 @@
+package io.openliberty.sample;
+
+import org.junit.runner.RunWith;
+import org.junit.runners.Suite;
+import org.junit.runners.Suite.SuiteClasses;
+
+import io.openliberty.sample.accesslog.AccessLogWriterTest;
+
+@RunWith(Suite.class)
+@SuiteClasses({
+    AccessLogWriterTest.class
+})
+public class TestSuite04 {
+}
@@ -0,0 +1,14 @@
+package io.openliberty.sample;
+
+import org.junit.runner.RunWith;
+import org.junit.runners.Suite;
+import org.junit.runners.Suite.SuiteClasses;
+
+import io.openliberty.sample.config.OverrideJournalTest;
+
+@RunWith(Suite.class)
+@SuiteClasses({
+    OverrideJournalTest.class
+})
+public class TestSuite05 {
+}
@@ -0,0 +1,16 @@
+package io.openliberty.sample;
+
+import org.junit.runner.RunWith;
+import org.junit.runners.Suite;
+import org.junit.runners.Suite.SuiteClasses;
+
+import io.openliberty.sample.cache.ResultCacheTest;
+import io.openliberty.sample.cache.SingleFlightTest;
+
+@RunWith(Suite.class)
+@SuiteClasses({
+    ResultCacheTest.class,
+    SingleFlightTest.class
+})
+public class TestSuite06 {
+}
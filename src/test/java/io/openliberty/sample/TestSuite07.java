@@ -0,0 +1,16 @@
+package io.openliberty.sample;
+
+import org.junit.runner.RunWith;
+import org.junit.runners.Suite;
+import org.junit.runners.Suite.SuiteClasses;
+
+import io.openliberty.sample.fault.FaultSpecTest;
+import io.openliberty.sample.fault.LatencyDistributionTest;
+
+@RunWith(Suite.class)
+@SuiteClasses({
+    LatencyDistributionTest.class,
+    FaultSpecTest.class
+})
+public class TestSuite07 {
+}
@@ -0,0 +1,18 @@
+package io.openliberty.sample;
+
+import org.junit.runner.RunWith;
+import org.junit.runners.Suite;
+import org.junit.runners.Suite.SuiteClasses;
+
+import io.openliberty.sample.system.LazyValueTest;
+import io.openliberty.sample.system.StartupTimelineFilterTest;
+import io.openliberty.sample.system.StartupTimelineTest;
+
+@RunWith(Suite.class)
+@SuiteClasses({
+    LazyValueTest.class,
+    StartupTimelineTest.class,
+    StartupTimelineFilterTest.class
+})
+public class TestSuite08 {
+}
@@ -0,0 +1,16 @@
+package io.openliberty.sample;
+
+import org.junit.runner.RunWith;
+import org.junit.runners.Suite;
+import org.junit.runners.Suite.SuiteClasses;
+
+import io.openliberty.sample.metrics.MetricsResourceTest;
+import io.openliberty.sample.metrics.MetricsSnapshotTest;
+
+@RunWith(Suite.class)
+@SuiteClasses({
+    MetricsSnapshotTest.class,
+    MetricsResourceTest.class
+})
+public class TestSuite09 {
+}
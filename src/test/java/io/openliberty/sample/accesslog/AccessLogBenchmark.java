@@ -0,0 +1,101 @@
+package io.openliberty.sample.accesslog;
+
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CountDownLatch;
+
+/**
+ * Compares the cost of enqueueing access log records from many request
+ * threads at once with writing the same lines synchronously to one shared
+ * file channel, as a request-thread logger would. Each round starts all
+ * producer threads together and reports the wall-clock time per request.
+ * Not part of the unit test suites, because wall-clock timings vary too much
+ * between runs to assert on; run it directly and read the numbers:
+ *
+ * <pre>
+ * java -cp target/classes:target/test-classes io.openliberty.sample.accesslog.AccessLogBenchmark [records] [rounds] [threads,...]
+ * </pre>
+ */
+public class AccessLogBenchmark {
+
+    public static void main(String[] args) throws Exception {
+        int records = args.length > 0 ? Integer.parseInt(args[0]) : 400000;
+        int rounds = args.length > 1 ? Integer.parseInt(args[1]) : 5;
+        String threadCounts = args.length > 2 ? args[2] : "1,2,4,8,16";
+        Path dir = Files.createTempDirectory("access-log-benchmark");
+
+        AccessLogWriter writer = new AccessLogWriter(dir.resolve("async.log"), records * 2, 256, 65536, 100,
+                Long.MAX_VALUE, 1);
+        writer.start();
+        try (FileChannel channel = FileChannel.open(dir.resolve("sync.log"), StandardOpenOption.CREATE,
+                StandardOpenOption.WRITE, StandardOpenOption.APPEND)) {
+            for (String count : threadCounts.split(",")) {
+                int threads = Integer.parseInt(count.trim());
+                for (int round = 1; round <= rounds; round++) {
+                    long asyncNanos = run(threads, records / threads, () -> writer.offer(record()));
+                    // Let the writer drain so the synchronous run does not compete with it.
+                    while (writer.getQueueSize() > 0) {
+                        Thread.sleep(10);
+                    }
+                    long syncNanos = run(threads, records / threads, () -> {
+                        StringBuilder sb = new StringBuilder();
+                        record().appendJson(sb);
+                        channel.write(ByteBuffer.wrap(sb.toString().getBytes(StandardCharsets.UTF_8)));
+                    });
+                    System.out.printf("%d threads, round %d: async enqueue %d ns/request, synchronous write %d ns/request%n",
+                            threads, round, asyncNanos / records, syncNanos / records);
+                }
+            }
+        }
+        writer.close();
+        System.out.printf("dropped %d records%n", writer.getDroppedCount());
+    }
+
+    /**
+     * Runs {@code perThread} requests on each of {@code threads} threads, started together.
+     *
+     * @return the wall-clock nanoseconds until every thread finished
+     */
+    private static long run(int threads, int perThread, Request request) throws InterruptedException {
+        CountDownLatch ready = new CountDownLatch(threads);
+        CountDownLatch go = new CountDownLatch(1);
+        List<Thread> producers = new ArrayList<Thread>();
+        for (int t = 0; t < threads; t++) {
+            Thread producer = new Thread(() -> {
+                ready.countDown();
+                try {
+                    go.await();
+                    for (int i = 0; i < perThread; i++) {
+                        request.run();
+                    }
+                } catch (InterruptedException | IOException e) {
+                    throw new IllegalStateException(e);
+                }
+            });
+            producer.start();
+            producers.add(producer);
+        }
+        ready.await();
+        long start = System.nanoTime();
+        go.countDown();
+        for (Thread producer : producers) {
+            producer.join();
+        }
+        return System.nanoTime() - start;
+    }
+
+    private static AccessLogRecord record() {
+        return new AccessLogRecord(System.currentTimeMillis(), "GET", "/system/properties", 200, 1234);
+    }
+
+    private interface Request {
+        void run() throws IOException;
+    }
+}
@@ -0,0 +1,96 @@
+package io.openliberty.sample.accesslog;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertTrue;
+
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.List;
+
+import org.junit.Rule;
+import org.junit.Test;
+import org.junit.rules.TemporaryFolder;
+
+public class AccessLogWriterTest {
+
+    @Rule
+    public TemporaryFolder folder = new TemporaryFolder();
+
+    @Test
+    public void writesJsonLines() throws Exception {
+        Path file = folder.getRoot().toPath().resolve("access.log");
+        AccessLogWriter writer = new AccessLogWriter(file, 16, 4, 1024, 50, 1024 * 1024, 2);
+        writer.start();
+        writer.offer(new AccessLogRecord(1L, "GET", "/system/properties", 200, 42));
+        writer.offer(new AccessLogRecord(2L, "GET", "/a\"b", 503, 7));
+        writer.close();
+
+        List<String> lines = Files.readAllLines(file, StandardCharsets.UTF_8);
+        assertEquals(2, lines.size());
+        assertEquals("{\"timestamp\":1,\"method\":\"GET\",\"path\":\"/system/properties\",\"status\":200,\"durationMicros\":42}",
+                lines.get(0));
+        assertEquals("{\"timestamp\":2,\"method\":\"GET\",\"path\":\"/a\\\"b\",\"status\":503,\"durationMicros\":7}",
+                lines.get(1));
+        assertEquals(2, writer.getWrittenCount());
+    }
+
+    @Test
+    public void dropsWhenQueueIsFull() throws Exception {
+        Path file = folder.getRoot().toPath().resolve("access.log");
+        // Not started, so nothing drains the queue.
+        AccessLogWriter writer = new AccessLogWriter(file, 2, 4, 1024, 50, 1024 * 1024, 2);
+        assertTrue(writer.offer(record()));
+        assertTrue(writer.offer(record()));
+        assertFalse(writer.offer(record()));
+        assertEquals(1, writer.getDroppedCount());
+    }
+
+    @Test
+    public void countsEveryRecordFromConcurrentProducers() throws Exception {
+        Path file = folder.getRoot().toPath().resolve("access.log");
+        AccessLogWriter writer = new AccessLogWriter(file, 64, 16, 1024, 5, Long.MAX_VALUE, 1);
+        writer.start();
+        List<Thread> producers = new ArrayList<Thread>();
+        for (int t = 0; t < 8; t++) {
+            Thread producer = new Thread(() -> {
+                for (int i = 0; i < 5000; i++) {
+                    writer.offer(record());
+                }
+            });
+            producer.start();
+            producers.add(producer);
+        }
+        for (Thread producer : producers) {
+            producer.join();
+        }
+        writer.close();
+
+        assertEquals(40000, writer.getWrittenCount() + writer.getDroppedCount());
+        assertEquals(writer.getWrittenCount(), Files.readAllLines(file, StandardCharsets.UTF_8).size());
+        assertEquals(0, writer.getQueueSize());
+    }
+
+    @Test
+    public void rotatesWhenFileIsFull() throws Exception {
+        Path file = folder.getRoot().toPath().resolve("access.log");
+        AccessLogWriter writer = new AccessLogWriter(file, 1024, 1, 1, 50, 200, 2);
+        writer.start();
+        for (int i = 0; i < 20; i++) {
+            writer.offer(record());
+        }
+        writer.close();
+
+        assertTrue(Files.exists(file.resolveSibling("access.log.1")));
+        assertTrue(Files.exists(file.resolveSibling("access.log.2")));
+        assertFalse(Files.exists(file.resolveSibling("access.log.3")));
+        assertTrue(Files.size(file) <= 200);
+        assertEquals(20, writer.getWrittenCount());
+    }
+
+    private static AccessLogRecord record() {
+        return new AccessLogRecord(System.currentTimeMillis(), "GET", "/system/properties", 200, 1234);
+    }
+}
@@ -0,0 +1,137 @@
+package io.openliberty.sample.cache;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertNotNull;
+import static org.junit.Assert.assertNull;
+import static org.junit.Assert.assertTrue;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import org.junit.Test;
+
+public class ResultCacheTest {
+
+    @Test
+    public void returnsCachedValue() throws Exception {
+        ResultCache<String, String> cache = new ResultCache<String, String>("test", 10, 0, null);
+        AtomicInteger loads = new AtomicInteger();
+        assertEquals("v", cache.get("k", () -> { loads.incrementAndGet(); return "v"; }));
+        assertEquals("v", cache.get("k", () -> { loads.incrementAndGet(); return "other"; }));
+        assertEquals(1, loads.get());
+        assertEquals(1, cache.getHitCount());
+        assertEquals(1, cache.getMissCount());
+    }
+
+    @Test
+    public void doesNotCacheNull() throws Exception {
+        ResultCache<String, String> cache = new ResultCache<String, String>("test", 10, 0, null);
+        assertNull(cache.get("k", () -> null));
+        assertEquals(0, cache.size());
+    }
+
+    @Test
+    public void expiresAfterWrite() throws Exception {
+        ResultCache<String, String> cache = new ResultCache<String, String>("test", 10, 20, null);
+        cache.get("k", () -> "v1");
+        Thread.sleep(50);
+        assertEquals("v2", cache.get("k", () -> "v2"));
+    }
+
+    @Test
+    public void invalidateAllClearsEntries() throws Exception {
+        ResultCache<String, String> cache = new ResultCache<String, String>("test", 10, 0, null);
+        cache.get("k", () -> "v1");
+        cache.invalidateAll();
+        assertEquals("v2", cache.get("k", () -> "v2"));
+    }
+
+    @Test
+    public void neverExceedsSmallMaximumSize() throws Exception {
+        for (int maximumSize = 1; maximumSize <= 5; maximumSize++) {
+            ResultCache<Integer, Integer> cache = new ResultCache<Integer, Integer>("test", maximumSize, 0, null);
+            for (int i = 0; i < 50; i++) {
+                final int key = i % 7;
+                cache.get(key, () -> key);
+                assertTrue("size " + cache.size() + " > " + maximumSize, cache.size() <= maximumSize);
+            }
+            assertEquals(maximumSize, cache.size());
+        }
+    }
+
+    @Test
+    public void singleEntryCacheReturnsCachedValue() throws Exception {
+        ResultCache<String, String> cache = new ResultCache<String, String>("test", 1, 0, null);
+        AtomicInteger loads = new AtomicInteger();
+        for (int i = 0; i < 3; i++) {
+            assertEquals("v", cache.get("k", () -> { loads.incrementAndGet(); return "v"; }));
+        }
+        assertEquals(1, loads.get());
+        assertEquals(1, cache.size());
+    }
+
+    @Test
+    public void keepsFrequentlyUsedEntriesDuringScan() throws Exception {
+        ResultCache<Integer, Integer> cache = new ResultCache<Integer, Integer>("test", 100, 0, null);
+        for (int round = 0; round < 5; round++) {
+            for (int i = 0; i < 50; i++) {
+                final int key = i;
+                cache.get(key, () -> key);
+            }
+        }
+        for (int i = 1000; i < 2000; i++) {
+            final int key = i;
+            cache.get(key, () -> key);
+        }
+        int retained = 0;
+        for (int i = 0; i < 50; i++) {
+            if (cache.getIfPresent(i) != null) {
+                retained++;
+            }
+        }
+        assertTrue("hot entries should survive a scan, retained " + retained, retained >= 45);
+        assertTrue(cache.size() <= 100);
+        assertTrue(cache.getEvictionCount() > 0);
+    }
+
+    @Test
+    public void concurrentMissesShareOneLoad() throws Exception {
+        ResultCache<String, String> cache = new ResultCache<String, String>("test", 10, 0, null);
+        AtomicInteger loads = new AtomicInteger();
+        CountDownLatch release = new CountDownLatch(1);
+        ExecutorService executor = Executors.newFixedThreadPool(8);
+        try {
+            List<Future<String>> results = new ArrayList<Future<String>>();
+            for (int i = 0; i < 8; i++) {
+                results.add(executor.submit(() -> cache.get("k", () -> {
+                    loads.incrementAndGet();
+                    release.await();
+                    return "v";
+                })));
+            }
+            Thread.sleep(100);
+            release.countDown();
+            for (Future<String> result : results) {
+                assertEquals("v", result.get(5, TimeUnit.SECONDS));
+            }
+        } finally {
+            executor.shutdown();
+        }
+        assertEquals(1, loads.get());
+    }
+
+    @Test
+    public void reportsLoadTime() throws Exception {
+        List<Long> times = new ArrayList<Long>();
+        ResultCache<String, String> cache = new ResultCache<String, String>("test", 10, 0, times::add);
+        cache.get("k", () -> "v");
+        assertEquals(1, times.size());
+        assertNotNull(times.get(0));
+    }
+}
@@ -0,0 +1,99 @@
+package io.openliberty.sample.cache;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertSame;
+import static org.junit.Assert.fail;
+
+import java.io.IOException;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.Callable;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import org.junit.Test;
+
+public class SingleFlightTest {
+
+    @Test
+    public void concurrentCallersShareOneComputation() throws Exception {
+        SingleFlight<String, String> flight = new SingleFlight<String, String>();
+        AtomicInteger computations = new AtomicInteger();
+        CountDownLatch release = new CountDownLatch(1);
+        List<Future<String>> results = runConcurrently(8, () -> flight.run("k", () -> {
+            computations.incrementAndGet();
+            release.await();
+            return "v";
+        }), release);
+        for (Future<String> result : results) {
+            assertEquals("v", result.get(5, TimeUnit.SECONDS));
+        }
+        assertEquals(1, computations.get());
+    }
+
+    @Test
+    public void everyCallerSeesTheSameCheckedException() throws Exception {
+        assertEveryCallerSees(new IOException("unavailable"));
+    }
+
+    @Test
+    public void everyCallerSeesTheSameError() throws Exception {
+        assertEveryCallerSees(new ExceptionInInitializerError("no provider"));
+    }
+
+    @Test
+    public void failureIsNotKept() throws Exception {
+        SingleFlight<String, String> flight = new SingleFlight<String, String>();
+        try {
+            flight.run("k", () -> {
+                throw new IllegalStateException("first");
+            });
+            fail("expected the computation to fail");
+        } catch (IllegalStateException e) {
+            assertEquals("first", e.getMessage());
+        }
+        assertEquals("v", flight.run("k", () -> "v"));
+    }
+
+    private static void assertEveryCallerSees(Throwable failure) throws Exception {
+        SingleFlight<String, String> flight = new SingleFlight<String, String>();
+        CountDownLatch release = new CountDownLatch(1);
+        List<Future<String>> results = runConcurrently(8, () -> flight.run("k", () -> {
+            release.await();
+            if (failure instanceof Error) {
+                throw (Error) failure;
+            }
+            throw (Exception) failure;
+        }), release);
+        for (Future<String> result : results) {
+            try {
+                result.get(5, TimeUnit.SECONDS);
+                fail("expected the computation to fail");
+            } catch (ExecutionException e) {
+                assertSame(failure, e.getCause());
+            }
+        }
+    }
+
+    /**
+     * Submits {@code callers} copies of {@code task}, then opens {@code release}
+     * once they have had time to start.
+     */
+    private static List<Future<String>> runConcurrently(int callers, Callable<String> task,
+            CountDownLatch release) throws InterruptedException {
+        ExecutorService executor = Executors.newFixedThreadPool(callers);
+        List<Future<String>> results = new ArrayList<Future<String>>();
+        for (int i = 0; i < callers; i++) {
+            results.add(executor.submit(task));
+        }
+        Thread.sleep(100);
+        release.countDown();
+        executor.shutdown();
+        return results;
+    }
+}
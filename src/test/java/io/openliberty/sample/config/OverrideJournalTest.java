@@ -0,0 +1,95 @@
+package io.openliberty.sample.config;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertNull;
+import static org.junit.Assert.assertTrue;
+
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+
+import org.junit.Rule;
+import org.junit.Test;
+import org.junit.rules.TemporaryFolder;
+
+public class OverrideJournalTest {
+
+    @Rule
+    public TemporaryFolder folder = new TemporaryFolder();
+
+    @Test
+    public void replaysSetAndClear() throws Exception {
+        Path file = folder.getRoot().toPath().resolve("overrides.journal");
+        OverrideJournal journal = new OverrideJournal(file, 1000);
+        journal.open();
+        journal.set("a", "1");
+        journal.set("b", "2");
+        journal.set("a", "3");
+        journal.clear("b");
+        assertEquals("3", journal.get("a"));
+        assertNull(journal.get("b"));
+        journal.close();
+
+        OverrideJournal replayed = new OverrideJournal(file, 1000);
+        replayed.open();
+        assertEquals("3", replayed.get("a"));
+        assertNull(replayed.get("b"));
+        assertEquals(1, replayed.getAll().size());
+        replayed.close();
+    }
+
+    @Test
+    public void ignoresTornLastRecord() throws Exception {
+        Path file = folder.getRoot().toPath().resolve("overrides.journal");
+        OverrideJournal journal = new OverrideJournal(file, 1000);
+        journal.open();
+        journal.set("a", "1");
+        journal.close();
+        Files.write(file, "{\"op\":\"set\",\"key\":\"a\",\"val".getBytes(StandardCharsets.UTF_8),
+                StandardOpenOption.APPEND);
+
+        OverrideJournal replayed = new OverrideJournal(file, 1000);
+        replayed.open();
+        assertEquals("1", replayed.get("a"));
+        replayed.close();
+    }
+
+    @Test
+    public void ignoresRecordsWithBadFields() throws Exception {
+        Path file = folder.getRoot().toPath().resolve("overrides.journal");
+        String lines = String.join("\n",
+                "{\"op\":\"set\",\"key\":\"a\",\"value\":\"1\"}",
+                "{\"op\":\"set\",\"key\":\"b\"}",
+                "{\"op\":\"set\",\"key\":7,\"value\":\"2\"}",
+                "{\"op\":\"drop\",\"key\":\"a\"}",
+                "{\"key\":\"a\"}",
+                "[\"a\"]",
+                "{\"op\":\"set\",\"key\":\"c\",\"value\":\"3\"}") + "\n";
+        Files.write(file, lines.getBytes(StandardCharsets.UTF_8));
+
+        OverrideJournal replayed = new OverrideJournal(file, 1000);
+        replayed.open();
+        assertEquals("1", replayed.get("a"));
+        assertEquals("3", replayed.get("c"));
+        assertEquals(2, replayed.getAll().size());
+        replayed.close();
+    }
+
+    @Test
+    public void compactsToLiveOverrides() throws Exception {
+        Path file = folder.getRoot().toPath().resolve("overrides.journal");
+        OverrideJournal journal = new OverrideJournal(file, 4);
+        journal.open();
+        for (int i = 0; i < 50; i++) {
+            journal.set("a", String.valueOf(i));
+        }
+        journal.close();
+
+        assertTrue(Files.readAllLines(file, StandardCharsets.UTF_8).size() < 50);
+        OverrideJournal replayed = new OverrideJournal(file, 4);
+        replayed.open();
+        assertEquals("49", replayed.get("a"));
+        replayed.close();
+    }
+}
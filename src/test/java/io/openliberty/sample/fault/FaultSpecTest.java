@@ -0,0 +1,28 @@
+package io.openliberty.sample.fault;
+
+import static org.junit.Assert.assertEquals;
+
+import org.junit.Test;
+
+public class FaultSpecTest {
+
+    @Test
+    public void acceptsErrorStatus() {
+        assertEquals(500, new FaultSpec(null, 0.5, 500).getErrorStatus());
+    }
+
+    @Test(expected = IllegalArgumentException.class)
+    public void rejectsSuccessStatus() {
+        new FaultSpec(null, 0.5, 200);
+    }
+
+    @Test(expected = IllegalArgumentException.class)
+    public void rejectsOutOfRangeStatus() {
+        new FaultSpec(null, 0.5, 1000);
+    }
+
+    @Test(expected = IllegalArgumentException.class)
+    public void rejectsErrorRateAboveOne() {
+        new FaultSpec(null, 1.5, 503);
+    }
+}
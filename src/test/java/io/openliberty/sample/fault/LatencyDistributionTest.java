@@ -0,0 +1,75 @@
+package io.openliberty.sample.fault;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertTrue;
+
+import java.util.Arrays;
+import java.util.Random;
+
+import org.junit.Test;
+
+public class LatencyDistributionTest {
+
+    private static final int SAMPLES = 10000;
+
+    @Test
+    public void fixed() {
+        LatencyDistribution latency = LatencyDistribution.parse("fixed:25");
+        assertEquals(25, latency.sampleMillis(new Random(1)));
+    }
+
+    @Test
+    public void uniformStaysWithinBounds() {
+        LatencyDistribution latency = LatencyDistribution.parse("uniform:10, 20");
+        Random random = new Random(1);
+        for (int i = 0; i < SAMPLES; i++) {
+            long millis = latency.sampleMillis(random);
+            assertTrue(millis >= 10 && millis <= 20);
+        }
+    }
+
+    @Test
+    public void lognormalHasConfiguredMedianAndLongTail() {
+        LatencyDistribution latency = LatencyDistribution.parse("lognormal:20,0.8");
+        Random random = new Random(1);
+        long[] samples = new long[SAMPLES];
+        for (int i = 0; i < SAMPLES; i++) {
+            samples[i] = latency.sampleMillis(random);
+        }
+        Arrays.sort(samples);
+        long median = samples[SAMPLES / 2];
+        long p99 = samples[SAMPLES * 99 / 100];
+        assertTrue("median " + median, median >= 18 && median <= 22);
+        assertTrue("p99 " + p99, p99 > 4 * median);
+    }
+
+    @Test
+    public void lognormalIsCapped() {
+        Random random = new Random(1);
+        LatencyDistribution capped = LatencyDistribution.parse("lognormal:20,10,500");
+        LatencyDistribution defaultCap = LatencyDistribution.parse("lognormal:20,10");
+        long max = 0;
+        for (int i = 0; i < SAMPLES; i++) {
+            long millis = capped.sampleMillis(random);
+            assertTrue("sample " + millis, millis <= 500);
+            max = Math.max(max, millis);
+            assertTrue(defaultCap.sampleMillis(random) <= LatencyDistribution.LogNormal.DEFAULT_MAX_MILLIS);
+        }
+        assertEquals(500, max);
+    }
+
+    @Test(expected = IllegalArgumentException.class)
+    public void rejectsLognormalMaxBelowMedian() {
+        LatencyDistribution.parse("lognormal:20,0.8,10");
+    }
+
+    @Test(expected = IllegalArgumentException.class)
+    public void rejectsUnknownDistribution() {
+        LatencyDistribution.parse("gamma:1,2");
+    }
+
+    @Test(expected = IllegalArgumentException.class)
+    public void rejectsWrongParameterCount() {
+        LatencyDistribution.parse("uniform:10");
+    }
+}
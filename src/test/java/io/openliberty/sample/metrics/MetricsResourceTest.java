@@ -0,0 +1,63 @@
+package io.openliberty.sample.metrics;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertTrue;
+
+import jakarta.json.JsonObject;
+import jakarta.ws.rs.core.Response;
+
+import org.junit.Before;
+import org.junit.Test;
+
+import io.openliberty.sample.metrics.MetricsSnapshotTest.CountingRegistry;
+
+public class MetricsResourceTest {
+
+    private MetricsResource resource;
+
+    @Before
+    public void setUp() {
+        MetricsSnapshots snapshots = new MetricsSnapshots();
+        snapshots.applicationRegistry = new CountingRegistry(null).proxy();
+        snapshots.baseRegistry = new CountingRegistry(null).proxy();
+        snapshots.vendorRegistry = new CountingRegistry(null).proxy();
+        snapshots.intervalMillis = 60_000;
+        snapshots.init();
+        resource = new MetricsResource();
+        resource.snapshots = snapshots;
+    }
+
+    @Test
+    public void returnsEveryScopeAndMetricByDefault() {
+        JsonObject body = entity(resource.getMetrics(null, null));
+        assertEquals(3, body.size());
+        for (String scope : new String[] { "application", "base", "vendor" }) {
+            assertTrue(body.getJsonObject(scope).containsKey("requests"));
+            assertTrue(body.getJsonObject(scope).containsKey("heap"));
+        }
+    }
+
+    @Test
+    public void selectsByScopeAndName() {
+        JsonObject body = entity(resource.getMetrics(" heap,missing ", "base,vendor"));
+        assertEquals(2, body.size());
+        assertFalse(body.containsKey("application"));
+        JsonObject base = body.getJsonObject("base");
+        assertEquals(1, base.size());
+        assertEquals(42, base.getJsonArray("heap").getJsonObject(0).getInt("value"));
+        assertEquals(1, body.getJsonObject("vendor").size());
+    }
+
+    @Test
+    public void rejectsUnknownScope() {
+        Response response = resource.getMetrics(null, "base,other");
+        assertEquals(Response.Status.BAD_REQUEST.getStatusCode(), response.getStatus());
+        assertEquals("ERROR: Unknown metric scope. [other]", response.getEntity());
+    }
+
+    private static JsonObject entity(Response response) {
+        assertEquals(Response.Status.OK.getStatusCode(), response.getStatus());
+        return (JsonObject) response.getEntity();
+    }
+}
@@ -0,0 +1,159 @@
+package io.openliberty.sample.metrics;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertSame;
+import static org.junit.Assert.assertTrue;
+import static org.junit.Assert.fail;
+
+import java.lang.reflect.Proxy;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.SortedMap;
+import java.util.TreeMap;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import jakarta.json.JsonArray;
+
+import org.eclipse.microprofile.metrics.Counter;
+import org.eclipse.microprofile.metrics.Gauge;
+import org.eclipse.microprofile.metrics.Metric;
+import org.eclipse.microprofile.metrics.MetricID;
+import org.eclipse.microprofile.metrics.MetricRegistry;
+import org.junit.Test;
+
+public class MetricsSnapshotTest {
+
+    @Test
+    public void concurrentCallersShareOneRender() throws Exception {
+        CountDownLatch release = new CountDownLatch(1);
+        CountingRegistry registry = new CountingRegistry(release);
+        MetricsSnapshot snapshot = new MetricsSnapshot(registry.proxy(), 60_000);
+        ExecutorService executor = Executors.newFixedThreadPool(8);
+        try {
+            List<Future<Map<String, JsonArray>>> results = new ArrayList<Future<Map<String, JsonArray>>>();
+            for (int i = 0; i < 8; i++) {
+                results.add(executor.submit(snapshot::getMetrics));
+            }
+            Thread.sleep(100);
+            release.countDown();
+            Map<String, JsonArray> first = results.get(0).get(5, TimeUnit.SECONDS);
+            for (Future<Map<String, JsonArray>> result : results) {
+                assertSame(first, result.get(5, TimeUnit.SECONDS));
+            }
+        } finally {
+            executor.shutdown();
+        }
+        assertEquals(1, registry.renders.get());
+    }
+
+    @Test
+    public void snapshotIsReusedWithinInterval() {
+        CountingRegistry registry = new CountingRegistry(null);
+        MetricsSnapshot snapshot = new MetricsSnapshot(registry.proxy(), 60_000);
+        Map<String, JsonArray> first = snapshot.getMetrics();
+        for (int i = 0; i < 10; i++) {
+            assertSame(first, snapshot.getMetrics());
+        }
+        assertEquals(1, registry.renders.get());
+    }
+
+    @Test
+    public void snapshotIsRenderedAgainAfterInterval() throws Exception {
+        CountingRegistry registry = new CountingRegistry(null);
+        MetricsSnapshot snapshot = new MetricsSnapshot(registry.proxy(), 50);
+        assertEquals(1, snapshot.getMetrics().get("requests").getJsonObject(0).getInt("count"));
+        registry.counter.inc();
+        Thread.sleep(100);
+        assertEquals(2, snapshot.getMetrics().get("requests").getJsonObject(0).getInt("count"));
+        assertEquals(2, registry.renders.get());
+    }
+
+    @Test
+    public void failedRenderIsReportedAndRetried() {
+        AtomicInteger renders = new AtomicInteger();
+        MetricRegistry registry = (MetricRegistry) Proxy.newProxyInstance(MetricRegistry.class.getClassLoader(),
+                new Class<?>[] { MetricRegistry.class }, (proxy, method, args) -> {
+                    if (renders.incrementAndGet() == 1) {
+                        throw new IllegalStateException("registry unavailable");
+                    }
+                    return new TreeMap<MetricID, Metric>();
+                });
+        MetricsSnapshot snapshot = new MetricsSnapshot(registry, 60_000);
+        try {
+            snapshot.getMetrics();
+            fail("expected the render to fail");
+        } catch (IllegalStateException e) {
+            assertEquals("registry unavailable", e.getMessage());
+        }
+        assertTrue(snapshot.getMetrics().isEmpty());
+        assertEquals(2, renders.get());
+    }
+
+    @Test
+    public void rendersCountersAndGauges() {
+        MetricsSnapshot snapshot = new MetricsSnapshot(new CountingRegistry(null).proxy(), 60_000);
+        Map<String, JsonArray> metrics = snapshot.getMetrics();
+        assertEquals(1, metrics.get("requests").getJsonObject(0).getInt("count"));
+        assertEquals(42, metrics.get("heap").getJsonObject(0).getInt("value"));
+    }
+
+    /**
+     * A registry holding a counter {@code requests} and a gauge {@code heap} that
+     * counts how often it is rendered and, if given a latch, blocks each render on it.
+     */
+    static class CountingRegistry {
+
+        final AtomicInteger renders = new AtomicInteger();
+        final SimpleCounter counter = new SimpleCounter();
+        private final CountDownLatch release;
+
+        CountingRegistry(CountDownLatch release) {
+            this.release = release;
+            counter.inc();
+        }
+
+        MetricRegistry proxy() {
+            Gauge<Long> heap = () -> 42L;
+            return (MetricRegistry) Proxy.newProxyInstance(MetricRegistry.class.getClassLoader(),
+                    new Class<?>[] { MetricRegistry.class }, (proxy, method, args) -> {
+                        if (!"getMetrics".equals(method.getName()) || args != null) {
+                            throw new UnsupportedOperationException(method.getName());
+                        }
+                        renders.incrementAndGet();
+                        if (release != null) {
+                            release.await();
+                        }
+                        SortedMap<MetricID, Metric> metrics = new TreeMap<MetricID, Metric>();
+                        metrics.put(new MetricID("requests"), counter);
+                        metrics.put(new MetricID("heap"), heap);
+                        return metrics;
+                    });
+        }
+    }
+
+    static class SimpleCounter implements Counter {
+
+        private final AtomicInteger count = new AtomicInteger();
+
+        @Override
+        public void inc() {
+            count.incrementAndGet();
+        }
+
+        @Override
+        public void inc(long n) {
+            count.addAndGet((int) n);
+        }
+
+        @Override
+        public long getCount() {
+            return count.get();
+        }
+    }
+}
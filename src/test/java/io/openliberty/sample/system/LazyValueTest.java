@@ -0,0 +1,93 @@
+package io.openliberty.sample.system;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertNull;
+import static org.junit.Assert.assertSame;
+import static org.junit.Assert.fail;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.ServiceConfigurationError;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import org.junit.Test;
+
+public class LazyValueTest {
+
+    @Test
+    public void concurrentCallersShareOneComputation() throws Exception {
+        AtomicInteger computations = new AtomicInteger();
+        CountDownLatch release = new CountDownLatch(1);
+        LazyValue<String> value = new LazyValue<String>("test.shared", () -> {
+            computations.incrementAndGet();
+            try {
+                release.await();
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+            }
+            return "v";
+        });
+        ExecutorService executor = Executors.newFixedThreadPool(8);
+        try {
+            List<Future<String>> results = new ArrayList<Future<String>>();
+            for (int i = 0; i < 8; i++) {
+                results.add(executor.submit(value::get));
+            }
+            Thread.sleep(100);
+            release.countDown();
+            for (Future<String> result : results) {
+                assertEquals("v", result.get(5, TimeUnit.SECONDS));
+            }
+        } finally {
+            executor.shutdown();
+        }
+        assertEquals("v", value.get());
+        assertEquals(1, computations.get());
+    }
+
+    @Test
+    public void errorFailsCallersAndIsRetried() {
+        AtomicInteger attempts = new AtomicInteger();
+        ServiceConfigurationError error = new ServiceConfigurationError("no provider");
+        LazyValue<String> value = new LazyValue<String>("test.error", () -> {
+            if (attempts.incrementAndGet() == 1) {
+                throw error;
+            }
+            return "v";
+        });
+        value.initialize();
+        // Served from a retry, since the failed attempt is not kept.
+        assertEquals("v", value.get());
+        assertEquals(2, attempts.get());
+    }
+
+    @Test
+    public void errorIsReportedToCallerOfThatAttempt() {
+        ServiceConfigurationError error = new ServiceConfigurationError("no provider");
+        LazyValue<String> value = new LazyValue<String>("test.errorReported", () -> {
+            throw error;
+        });
+        try {
+            value.get();
+            fail("expected the computation to fail");
+        } catch (ServiceConfigurationError e) {
+            assertSame(error, e);
+        }
+    }
+
+    @Test
+    public void nullIsNotKept() {
+        AtomicInteger attempts = new AtomicInteger();
+        LazyValue<String> value = new LazyValue<String>("test.null",
+                () -> attempts.incrementAndGet() == 1 ? null : "v");
+        assertNull(value.get());
+        assertEquals("v", value.get());
+        assertEquals("v", value.get());
+        assertEquals(2, attempts.get());
+    }
+}
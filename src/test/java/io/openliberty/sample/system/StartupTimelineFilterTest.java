@@ -0,0 +1,30 @@
+package io.openliberty.sample.system;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertNotNull;
+
+import java.lang.reflect.Proxy;
+
+import jakarta.ws.rs.container.ResourceInfo;
+
+import org.junit.Test;
+
+public class StartupTimelineFilterTest {
+
+    @Test
+    public void marksFirstRequestOncePerResourceClass() throws Exception {
+        StartupTimelineFilter filter = new StartupTimelineFilter();
+        filter.resourceInfo = (ResourceInfo) Proxy.newProxyInstance(ResourceInfo.class.getClassLoader(),
+                new Class<?>[] { ResourceInfo.class }, (proxy, method, args) -> Greeting$Proxy$_$$_WeldSubclass.class);
+
+        filter.filter(null);
+        Long first = StartupTimeline.getStartMicros("firstRequest.Greeting");
+        assertNotNull(first);
+        Thread.sleep(10);
+        filter.filter(null);
+        assertEquals(first, StartupTimeline.getStartMicros("firstRequest.Greeting"));
+    }
+
+    static class Greeting$Proxy$_$$_WeldSubclass {
+    }
+}
@@ -0,0 +1,31 @@
+package io.openliberty.sample.system;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertNotNull;
+import static org.junit.Assert.assertTrue;
+
+import org.junit.Test;
+
+public class StartupTimelineTest {
+
+    @Test
+    public void firstOccurrenceWins() throws Exception {
+        StartupTimeline.mark("test.firstOccurrence");
+        Long first = StartupTimeline.getStartMicros("test.firstOccurrence");
+        assertNotNull(first);
+        Thread.sleep(10);
+        StartupTimeline.mark("test.firstOccurrence");
+        StartupTimeline.record("test.firstOccurrence", System.nanoTime());
+        assertEquals(first, StartupTimeline.getStartMicros("test.firstOccurrence"));
+    }
+
+    @Test
+    public void recordsSpanStart() throws Exception {
+        long start = System.nanoTime();
+        Thread.sleep(10);
+        StartupTimeline.record("test.span", start);
+        StartupTimeline.mark("test.afterSpan");
+        assertTrue(StartupTimeline.getStartMicros("test.span") < StartupTimeline.getStartMicros("test.afterSpan"));
+        assertTrue(StartupTimeline.format().contains("test.span"));
+    }
+}
@@ -41,7 +41,7 @@ public class HealthIT {
   public void testIfServicesAreDown() {
     servicesstatus = HealthUtilIT.connectToHealthEnpoint(200);
     checkServicesstatus(dataWhenServicesUP, servicesstatus);
-    HealthUtilIT.changeProperty(HealthUtilIT.INV_MAINTENANCE_FALSE, HealthUtilIT.INV_MAINTENANCE_TRUE);
+    HealthUtilIT.setOverride(HealthUtilIT.INV_MAINTENANCE, "true");
     servicesstatus = HealthUtilIT.connectToHealthEnpoint(503);
     checkServicesstatus(dataWhenServicesDown, servicesstatus);
   }
@@ -13,15 +13,24 @@ package it.io.openliberty.sample.health;
 
 import static org.junit.jupiter.api.Assertions.assertEquals;
 
-import java.io.BufferedReader;
-import java.io.File;
-import java.io.FileReader;
-import java.io.FileWriter;
+import java.nio.charset.StandardCharsets;
+import java.security.GeneralSecurityException;
+import java.security.cert.X509Certificate;
+import java.util.ArrayList;
+import java.util.Base64;
+import java.util.List;
+
+import javax.net.ssl.SSLContext;
+import javax.net.ssl.TrustManager;
+import javax.net.ssl.X509TrustManager;
 
 import jakarta.json.JsonArray;
 import jakarta.json.JsonObject;
 import jakarta.ws.rs.client.Client;
 import jakarta.ws.rs.client.ClientBuilder;
+import jakarta.ws.rs.client.Entity;
+import jakarta.ws.rs.core.HttpHeaders;
+import jakarta.ws.rs.core.MediaType;
 import jakarta.ws.rs.core.Response;
 
 public class HealthUtilIT {
@@ -29,14 +38,17 @@ public class HealthUtilIT {
   private static String port;
   private static String contextRoot;
   private static String baseUrl;
+  private static String adminUrl;
+  private static final List<String> overridden = new ArrayList<String>();
   private final static String HEALTH_ENDPOINT = "health";
-  public static final String INV_MAINTENANCE_FALSE = "io_openliberty_sample_system_inMaintenance\":false";
-  public static final String INV_MAINTENANCE_TRUE = "io_openliberty_sample_system_inMaintenance\":true";
+  private final static String OVERRIDES_ENDPOINT = "system/admin/overrides/";
+  public static final String INV_MAINTENANCE = "io_openliberty_sample_system_inMaintenance";
 
   static {
     port = System.getProperty("http.port");
     contextRoot = System.getProperty("app.context.root");
     baseUrl = "http://localhost:" + port + contextRoot;
+    adminUrl = "https://localhost:" + System.getProperty("https.port") + contextRoot;
   }
 
   public static JsonArray connectToHealthEnpoint(int expectedResponseCode) {
@@ -62,28 +74,75 @@ public class HealthUtilIT {
     return state;
   }
 
-  public static void changeProperty(String oldValue, String newValue) {
-    try {
-      String fileName = System.getProperty("user.dir").split("target")[0] + "/resources/CustomConfigSource.json";
-      BufferedReader reader = new BufferedReader(new FileReader(new File(fileName)));
-      String line = "";
-      String oldContent = "", newContent = "";
-      while ((line = reader.readLine()) != null) {
-        oldContent += line + "\r\n";
+  /**
+   * The admin API is only needed by tests that set overrides, so the password
+   * is checked here rather than when the class loads. It is the plain password;
+   * the server may be given the same password encoded.
+   */
+  private static String adminAuthorization() {
+    String password = System.getProperty("admin.password");
+    if (password == null || password.isEmpty() || password.startsWith("${")) {
+      throw new IllegalStateException("Set the admin password with -Dadmin.password to test the admin API");
+    }
+    String credentials = System.getProperty("admin.user") + ":" + password;
+    return "Basic " + Base64.getEncoder().encodeToString(credentials.getBytes(StandardCharsets.UTF_8));
+  }
+
+  /**
+   * The admin API only accepts HTTPS, and the test server uses the
+   * self-signed certificate Liberty generates for it.
+   */
+  private static Client adminClient() {
+    TrustManager trustAll = new X509TrustManager() {
+      @Override
+      public void checkClientTrusted(X509Certificate[] chain, String authType) {
       }
-      reader.close();
-      newContent = oldContent.replaceAll(oldValue, newValue);
-      FileWriter writer = new FileWriter(fileName);
-      writer.write(newContent);
-      writer.close();
-      Thread.sleep(600);
-    } catch (Exception e) {
-      e.printStackTrace();
+
+      @Override
+      public void checkServerTrusted(X509Certificate[] chain, String authType) {
+      }
+
+      @Override
+      public X509Certificate[] getAcceptedIssuers() {
+        return new X509Certificate[0];
+      }
+    };
+    try {
+      SSLContext context = SSLContext.getInstance("TLS");
+      context.init(null, new TrustManager[] { trustAll }, null);
+      return ClientBuilder.newBuilder().sslContext(context).hostnameVerifier((host, session) -> true).build();
+    } catch (GeneralSecurityException e) {
+      throw new IllegalStateException("Unable to create the admin API client", e);
     }
   }
 
+  public static void setOverride(String name, String value) {
+    String overrideURL = adminUrl + OVERRIDES_ENDPOINT + name;
+    Client client = adminClient();
+    Response response = client.target(overrideURL).request()
+        .header(HttpHeaders.AUTHORIZATION, adminAuthorization())
+        .put(Entity.entity(value, MediaType.TEXT_PLAIN));
+    assertEquals(204, response.getStatus(), "Unable to set override " + overrideURL);
+    overridden.add(name);
+    response.close();
+    client.close();
+  }
+
+  public static void clearOverride(String name) {
+    String overrideURL = adminUrl + OVERRIDES_ENDPOINT + name;
+    Client client = adminClient();
+    Response response = client.target(overrideURL).request()
+        .header(HttpHeaders.AUTHORIZATION, adminAuthorization()).delete();
+    assertEquals(204, response.getStatus(), "Unable to clear override " + overrideURL);
+    response.close();
+    client.close();
+  }
+
   public static void cleanUp() {
-    changeProperty(INV_MAINTENANCE_TRUE, INV_MAINTENANCE_FALSE);
+    for (String name : overridden) {
+      clearOverride(name);
+    }
+    overridden.clear();
   }
 
 }